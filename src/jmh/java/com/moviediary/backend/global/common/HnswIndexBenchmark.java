@@ -0,0 +1,78 @@
+package com.moviediary.backend.global.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧪 비슷한 영화 검색: HNSW 근사 검색 vs 전체 비교 (상위 30개)
+ * - 벡터는 영화 특징 벡터와 같은 형태 (장르 one-hot 19개 + 평점 + 인기도)
+ * - SampleTime 모드라 p99 지연 시간을 함께 확인 가능
+ * - 인덱스 생성은 Setup 에서 한 번만 (movieCount 가 크면 수십 초 소요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HnswIndexBenchmark {
+    private static final int DIMENSION = 21;
+    private static final int K = 30;
+
+    @Param({"100000"})
+    private int movieCount;
+
+    @Param({"64"})
+    private int efSearch;
+
+    private HnswIndex index;
+    private float[][] normalized;
+    private float[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        index = new HnswIndex(DIMENSION, 16, 100);
+        normalized = new float[movieCount][];
+        for (int i = 0; i < movieCount; i++) {
+            index.add(i + 1, randomFeatures(random));
+            normalized[i] = index.vector(i + 1);
+        }
+        queries = new float[1024][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = normalized[random.nextInt(movieCount)];
+        }
+    }
+
+    @Benchmark
+    public HnswIndex.Result hnsw() {
+        return index.search(nextQuery(), K, efSearch);
+    }
+
+    @Benchmark
+    public long[] bruteForce() {
+        float[] query = nextQuery();
+        TopK top = new TopK(K);
+        for (int i = 0; i < normalized.length; i++) {
+            top.offer(i + 1, HnswIndex.cosine(query, normalized[i]));
+        }
+        return top.drainIds();
+    }
+
+    private float[] nextQuery() {
+        return queries[next++ & (queries.length - 1)];
+    }
+
+    private static float[] randomFeatures(SplittableRandom random) {
+        float[] vector = new float[DIMENSION];
+        int genres = 1 + random.nextInt(3);
+        for (int g = 0; g < genres; g++) {
+            vector[random.nextInt(19)] = 1f;
+        }
+        vector[19] = 0.5f * (float) random.nextDouble();
+        vector[20] = 0.3f * (float) random.nextDouble();
+        return vector;
+    }
+}
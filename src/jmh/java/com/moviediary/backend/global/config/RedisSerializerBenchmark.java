@@ -0,0 +1,92 @@
+package com.moviediary.backend.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 🧪 영화 목록 캐시 값 직렬화/역직렬화 (영화 10개 = movies:lastId:* 한 페이지)
+ * - generic: redisTemplate 의 GenericJackson2JsonRedisSerializer
+ * - json: 타입 고정 Jackson2JsonRedisSerializer (이전 movieListRedisTemplate)
+ * - movieList: movieListRedisTemplate 의 바이너리 코덱
+ * - 직렬화 크기 비교는 MovieListRedisSerializerTest 에서 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RedisSerializerBenchmark {
+    private RedisSerializer<Object> genericSerializer;
+    private RedisSerializer<List<MovieSummaryDto>> jsonSerializer;
+    private RedisSerializer<List<MovieSummaryDto>> movieListSerializer;
+
+    private List<MovieSummaryDto> page;
+    private byte[] genericBytes;
+    private byte[] jsonBytes;
+    private byte[] movieListBytes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RedisConfig redisConfig = new RedisConfig();
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(connectionFactory);
+        RedisTemplate<String, List<MovieSummaryDto>> movieListRedisTemplate =
+                redisConfig.movieListRedisTemplate(connectionFactory);
+        ObjectMapper objectMapper = new ObjectMapper();
+        jsonSerializer = new Jackson2JsonRedisSerializer<>(objectMapper,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, MovieSummaryDto.class));
+        genericSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        movieListSerializer = (RedisSerializer<List<MovieSummaryDto>>) movieListRedisTemplate.getValueSerializer();
+
+        page = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            page.add(new MovieSummaryDto(id, "Movie Title " + id,
+                    "https://image.tmdb.org/t/p/w500/poster" + id + ".jpg", 1000.0 - id));
+        }
+        genericBytes = genericSerializer.serialize(page);
+        jsonBytes = jsonSerializer.serialize(page);
+        movieListBytes = movieListSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] genericSerialize() {
+        return genericSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object genericDeserialize() {
+        return genericSerializer.deserialize(genericBytes);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public List<MovieSummaryDto> jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] movieListSerialize() {
+        return movieListSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public List<MovieSummaryDto> movieListDeserialize() {
+        return movieListSerializer.deserialize(movieListBytes);
+    }
+}
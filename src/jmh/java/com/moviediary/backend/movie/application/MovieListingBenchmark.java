@@ -0,0 +1,128 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.global.infra.RedisLockManager;
+import com.moviediary.backend.global.infra.tmdb.TmdbClient;
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 🧪 영화 목록 조회 경로 (GET /api/movies)
+ * - l1Hit: 인기 영화 + 페이지 모두 인프로세스 캐시 적중
+ * - redisHit: 페이지 L1 미스 → Redis(대역) 적중
+ * - dbLoad: 페이지 L1/Redis 미스 → DB(대역) 조회 후 Redis 저장
+ * - MySQL/Redis/TMDB 는 Mockito 대역 (호출 비용은 일정하므로 회귀 비교용 수치)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MovieListingBenchmark {
+    private static final int PAGE_SIZE = 10;
+
+    public abstract static class Listing {
+        MovieService movieService;
+        long nextLastId;
+
+        List<MovieProjection> popularMovies;
+        List<MovieProjection> pageMovies;
+
+        /**
+         * @param redisHasPage Redis 대역이 페이지를 돌려줄지 여부 (false 면 DB 대역까지 내려감)
+         * @param pageCacheSize 페이지 L1 크기 (1 이면 lastId 를 바꿀 때마다 미스)
+         */
+        @SuppressWarnings("unchecked")
+        void setUp(boolean redisHasPage, long pageCacheSize) {
+            List<MovieSummaryDto> popular = movies(1_000_000, PAGE_SIZE);
+            List<MovieSummaryDto> page = movies(1, PAGE_SIZE);
+            popularMovies = List.copyOf(popular);
+            pageMovies = List.copyOf(page);
+
+            RedisTemplate<String, List<MovieSummaryDto>> movieListRedisTemplate = mock(RedisTemplate.class);
+            ValueOperations<String, List<MovieSummaryDto>> valueOperations = mock(ValueOperations.class);
+            when(movieListRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(startsWith("movies:popular"))).thenReturn(popular);
+            when(valueOperations.get(startsWith("movies:lastId:"))).thenReturn(redisHasPage ? page : null);
+
+            MovieRepository movieRepository = mock(MovieRepository.class);
+            when(movieRepository.findTop10ProjectionByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(pageMovies);
+
+            MovieLocalCache movieLocalCache = new MovieLocalCache(
+                    mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class), pageCacheSize, 3600);
+
+            movieService = new MovieService(movieRepository, mock(RedisTemplate.class), movieListRedisTemplate,
+                    mock(TmdbClient.class), movieLocalCache, mock(MovieDetailCache.class), mock(MovieSearchCache.class),
+                    mock(MovieSearchIndex.class), mock(MovieGenreIndex.class), mock(MovieCatalogIngestor.class),
+                    mock(MoviePopularityAccumulator.class), mock(RedisLockManager.class));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class L1Hit extends Listing {
+        @Setup
+        public void setUp() {
+            setUp(true, 1000);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RedisHit extends Listing {
+        @Setup
+        public void setUp() {
+            setUp(true, 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DbLoad extends Listing {
+        @Setup
+        public void setUp() {
+            setUp(false, 1);
+        }
+    }
+
+    @Benchmark
+    public List<MovieProjection> l1Hit(L1Hit state) {
+        return state.movieService.getMovies(0L);
+    }
+
+    @Benchmark
+    public List<MovieProjection> redisHit(RedisHit state) {
+        return state.movieService.getMovies(state.nextLastId++);
+    }
+
+    @Benchmark
+    public List<MovieProjection> dbLoad(DbLoad state) {
+        return state.movieService.getMovies(state.nextLastId++);
+    }
+
+    /**
+     * 인기 영화 10개 + 일반 영화 10개 병합 (중복 없음)
+     */
+    @Benchmark
+    public List<MovieProjection> mergeMovieLists(L1Hit state) {
+        return state.movieService.mergeMovieLists(state.popularMovies, state.pageMovies);
+    }
+
+    static List<MovieSummaryDto> movies(long firstId, int count) {
+        List<MovieSummaryDto> movies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            movies.add(new MovieSummaryDto(id, "Movie Title " + id,
+                    "https://image.tmdb.org/t/p/w500/poster" + id + ".jpg", 1000.0 - i));
+        }
+        return movies;
+    }
+}
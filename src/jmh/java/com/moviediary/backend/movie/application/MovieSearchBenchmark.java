@@ -0,0 +1,123 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.global.infra.RedisLockManager;
+import com.moviediary.backend.global.infra.tmdb.TmdbClient;
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Genre;
+import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 🧪 영화 검색 경로 (GET /api/movies/search)
+ * - indexXxx: MovieSearchIndex.search 단독 (단어 1개 / 짧은 접두어 / 여러 단어 / 다음 페이지 커서)
+ * - serviceLocal: MovieService.searchMovies 가 로컬 인덱스로 응답하는 경로
+ * - serviceTmdbFallback: 로컬 결과 부족 → 검색 캐시(대역) 로 대체하는 경로
+ * - 영화는 고정 시드로 만든 합성 제목/줄거리 (단어 분포가 실제 카탈로그와 다르므로 회귀 비교용 수치)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MovieSearchBenchmark {
+    private static final String[] WORDS = {
+            "star", "night", "love", "war", "dark", "king", "city", "last", "story", "man",
+            "woman", "house", "dead", "life", "world", "girl", "time", "black", "blood", "home",
+            "lost", "secret", "summer", "winter", "dream", "island", "storm", "shadow", "river", "road"
+    };
+
+    @Param({"100000"})
+    private int movieCount;
+
+    private MovieSearchIndex movieSearchIndex;
+    private MovieService movieService;
+    private long secondPageCursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        movieSearchIndex = new MovieSearchIndex(mock(MovieRepository.class), 0.2);
+        SplittableRandom random = new SplittableRandom(7);
+        List<Movie> batch = new ArrayList<>(1000);
+        for (long id = 1; id <= movieCount; id++) {
+            batch.add(movie(id, random));
+            if (batch.size() == 1000) {
+                movieSearchIndex.index(batch);
+                batch.clear();
+            }
+        }
+        movieSearchIndex.index(batch);
+
+        List<MovieProjection> firstPage = movieSearchIndex.search("star", 0L);
+        secondPageCursor = firstPage.get(firstPage.size() - 1).getId();
+
+        MovieSearchCache movieSearchCache = mock(MovieSearchCache.class);
+        when(movieSearchCache.get(anyString(), anyString(), anyInt(), any()))
+                .thenReturn(List.copyOf(MovieListingBenchmark.movies(1, 10)));
+
+        movieService = new MovieService(mock(MovieRepository.class), mock(RedisTemplate.class), mock(RedisTemplate.class),
+                mock(TmdbClient.class), mock(MovieLocalCache.class), mock(MovieDetailCache.class), movieSearchCache,
+                movieSearchIndex, mock(MovieGenreIndex.class), mock(MovieCatalogIngestor.class),
+                mock(MoviePopularityAccumulator.class), mock(RedisLockManager.class));
+        ReflectionTestUtils.setField(movieService, "minLocalSearchHits", 3);
+    }
+
+    @Benchmark
+    public List<MovieProjection> indexSingleWord() {
+        return movieSearchIndex.search("star", 0L);
+    }
+
+    @Benchmark
+    public List<MovieProjection> indexShortPrefix() {
+        return movieSearchIndex.search("s", 0L);
+    }
+
+    @Benchmark
+    public List<MovieProjection> indexMultiWord() {
+        return movieSearchIndex.search("dark night city", 0L);
+    }
+
+    @Benchmark
+    public List<MovieProjection> indexNextPage() {
+        return movieSearchIndex.search("star", secondPageCursor);
+    }
+
+    @Benchmark
+    public List<MovieProjection> serviceLocal() {
+        return movieService.searchMovies("star king", "movie", 0L);
+    }
+
+    @Benchmark
+    public List<MovieProjection> serviceTmdbFallback() {
+        return movieService.searchMovies("zzz", "movie", 0L);
+    }
+
+    private static Movie movie(long id, SplittableRandom random) {
+        StringBuilder title = new StringBuilder();
+        for (int i = 0, n = 1 + random.nextInt(3); i < n; i++) {
+            title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        StringBuilder overview = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            overview.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(50)).append(' ');
+        }
+        Genre[] genres = Genre.values();
+        long genreMask = genres[random.nextInt(genres.length)].mask() | genres[random.nextInt(genres.length)].mask();
+        return new Movie(id, String.valueOf(id), title.toString().trim(), LocalDate.of(2000, 1, 1), 7.0, "[]", genreMask,
+                overview.toString(), null, null, random.nextDouble() * 500, 100, null, LocalDateTime.now());
+    }
+}
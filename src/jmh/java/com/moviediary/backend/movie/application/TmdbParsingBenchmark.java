@@ -0,0 +1,129 @@
+package com.moviediary.backend.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbGenre;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbMovie;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbPage;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbSearchResult;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbVideos;
+import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧪 TMDB /discover 응답 1페이지(20편) 파싱 + Movie 변환
+ * - mapPath: Map.class 로 전체 트리를 만든 뒤 캐스팅/getOrDefault 로 변환 (이전 방식)
+ * - typedPath: 타입 있는 레코드로 바로 디코딩, 사용하지 않는 필드는 건너뜀
+ * - toMovie / toSummary: 파싱을 제외한 변환 비용만 (수집/상세 조회, 검색 결과)
+ * - 할당량은 gc 프로파일러 결과(gc.alloc.rate.norm)로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TmdbParsingBenchmark {
+    private static final String IMAGE_BASE_URL = "https://image.tmdb.org/t/p/w500";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectReader moviePageReader;
+    private byte[] discoverPage;
+    private TmdbMovie movie;
+    private TmdbSearchResult searchResult;
+
+    @Setup
+    public void setUp() {
+        moviePageReader = objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructParametricType(TmdbPage.class, TmdbMovie.class));
+
+        StringBuilder json = new StringBuilder("{\"page\":1,\"results\":[");
+        for (int i = 0; i < 20; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"adult\":false,\"backdrop_path\":\"/backdrop").append(i).append(".jpg\",")
+                    .append("\"genre_ids\":[28,12,878],\"id\":").append(500_000 + i).append(',')
+                    .append("\"original_language\":\"en\",\"original_title\":\"Original Title ").append(i).append("\",")
+                    .append("\"overview\":\"A long overview text for movie ").append(i)
+                    .append(" that goes on for a while to resemble a real TMDB synopsis.\",")
+                    .append("\"popularity\":").append(1234.5 - i).append(',')
+                    .append("\"poster_path\":\"/poster").append(i).append(".jpg\",")
+                    .append("\"release_date\":\"2024-0").append(1 + i % 9).append("-15\",")
+                    .append("\"title\":\"Movie Title ").append(i).append("\",\"video\":false,")
+                    .append("\"vote_average\":7.").append(i % 10).append(",\"vote_count\":").append(1000 + i).append('}');
+        }
+        json.append("],\"total_pages\":500,\"total_results\":10000}");
+        discoverPage = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        movie = new TmdbMovie(550, "Fight Club", "1999-10-15", 8.4, null,
+                List.of(new TmdbGenre(18, "Drama"), new TmdbGenre(53, "Thriller")),
+                "A ticking-time-bomb insomniac and a slippery soap salesman channel primal male aggression.",
+                "/poster.jpg", "/backdrop.jpg", 61.4, 26280,
+                new TmdbVideos(List.of(new TmdbVideos.TmdbVideo("abc", "YouTube", "Teaser"),
+                        new TmdbVideos.TmdbVideo("SUXWAEX2jlg", "YouTube", "Trailer"))));
+        searchResult = new TmdbSearchResult(603, "The Matrix", null, "/matrix.jpg", 85.2);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void mapPath(Blackhole blackhole) throws IOException {
+        Map<String, Object> body = objectMapper.readValue(discoverPage, Map.class);
+        for (Map<String, Object> data : (List<Map<String, Object>>) body.getOrDefault("results", List.of())) {
+            blackhole.consume(legacyToMovie(data));
+        }
+    }
+
+    @Benchmark
+    public void typedPath(Blackhole blackhole) throws IOException {
+        TmdbPage<TmdbMovie> body = moviePageReader.readValue(discoverPage);
+        for (TmdbMovie data : body.results()) {
+            blackhole.consume(TmdbMovieMapper.toMovie(data));
+        }
+    }
+
+    @Benchmark
+    public Movie toMovie() {
+        return TmdbMovieMapper.toMovie(movie);
+    }
+
+    @Benchmark
+    public MovieSummaryDto toSummary() {
+        return TmdbMovieMapper.toSummary(searchResult);
+    }
+
+    /**
+     * 이전 MovieService.mapToMovie 와 동일한 변환
+     */
+    private static Movie legacyToMovie(Map<String, Object> data) {
+        String releaseDateStr = (String) data.get("release_date");
+        LocalDate releaseDate = (releaseDateStr != null && !releaseDateStr.isEmpty()) ? LocalDate.parse(releaseDateStr) : null;
+        Object genres = data.get("genre_ids") != null ? data.get("genre_ids") : data.get("genres");
+
+        return new Movie(
+                null,
+                String.valueOf(data.get("id")),
+                (String) data.get("title"),
+                releaseDate,
+                ((Number) data.getOrDefault("vote_average", 0)).doubleValue(),
+                genres != null ? genres.toString() : "[]",
+                0L,
+                (String) data.getOrDefault("overview", ""),
+                IMAGE_BASE_URL + data.getOrDefault("poster_path", ""),
+                IMAGE_BASE_URL + data.getOrDefault("backdrop_path", ""),
+                ((Number) data.getOrDefault("popularity", 0)).doubleValue(),
+                ((Number) data.getOrDefault("vote_count", 0)).intValue(),
+                "",
+                LocalDateTime.now()
+        );
+    }
+}
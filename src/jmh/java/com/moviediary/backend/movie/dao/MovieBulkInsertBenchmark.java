@@ -0,0 +1,141 @@
+package com.moviediary.backend.movie.dao;
+
+import com.moviediary.backend.movie.domain.Genre;
+import com.moviediary.backend.movie.domain.Movie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🚚 영화 10,000건 저장: 행 단위 INSERT(IDENTITY + saveAll 과 동일한 패턴) vs JDBC 배치 upsert
+ * - 기본은 Testcontainers MySQL 8.0 (rewriteBatchedStatements=true, Docker 필요)
+ * - 다른 DB 측정: build.gradle 의 jmh { benchmarkParameters } 로 jdbcUrl/username/password 지정
+ *   (예: jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true,
+ *    H2 jdbc:h2:mem:movie_bench;MODE=MySQL;DB_CLOSE_DELAY=-1 는 네트워크 왕복이 없어 차이가 작게 나옴)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class MovieBulkInsertBenchmark {
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS movie ("
+            + "id BIGINT AUTO_INCREMENT PRIMARY KEY, tmdb_id VARCHAR(255) NOT NULL UNIQUE, title VARCHAR(255) NOT NULL, "
+            + "release_date DATE, rating DOUBLE, genre VARCHAR(255), genre_mask BIGINT NOT NULL DEFAULT 0, overview TEXT, poster_url VARCHAR(255), "
+            + "backdrop_url VARCHAR(255), popularity DOUBLE, vote_count INT, trailer_url VARCHAR(255), "
+            + "created_at DATETIME(6) NOT NULL)";
+    private static final String INSERT_SQL = "INSERT INTO movie (tmdb_id, title, release_date, rating, genre, overview, "
+            + "poster_url, backdrop_url, popularity, vote_count, trailer_url, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String TESTCONTAINERS = "testcontainers";
+
+    @Param(TESTCONTAINERS)
+    public String jdbcUrl;
+
+    @Param("")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    @Param("10000")
+    public int movieCount;
+
+    private MySQLContainer<?> mysql;
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private MovieBulkRepository movieBulkRepository;
+    private List<Movie> movies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (TESTCONTAINERS.equals(jdbcUrl)) {
+            mysql = new MySQLContainer<>("mysql:8.0").withUrlParam("rewriteBatchedStatements", "true");
+            mysql.start();
+            dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        } else {
+            dataSource = new DriverManagerDataSource(jdbcUrl, username, password);
+        }
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        movieBulkRepository = new MovieBulkRepository(jdbcTemplate);
+
+        movies = new ArrayList<>(movieCount);
+        for (int i = 0; i < movieCount; i++) {
+            movies.add(new Movie(null, String.valueOf(100_000 + i), "Movie " + i, LocalDate.of(2020, 1, 1).plusDays(i % 1000),
+                    7.5, "[28, 12]", Genre.ACTION.mask() | Genre.ADVENTURE.mask(), "Overview of movie " + i, "https://image.tmdb.org/t/p/w500/" + i + ".jpg",
+                    "https://image.tmdb.org/t/p/w1280/" + i + ".jpg", (double) (i % 500), i % 3000, null,
+                    LocalDateTime.now()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("DELETE FROM movie");
+    }
+
+    /**
+     * 기존 방식: 한 트랜잭션 안에서 행마다 INSERT 후 생성 키 조회 (IDENTITY 전략에서 saveAll 이 하는 일)
+     */
+    @Benchmark
+    public int rowByRowInsert() throws SQLException {
+        int inserted = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Movie movie : movies) {
+                    bind(ps, movie);
+                    inserted += ps.executeUpdate();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            connection.commit();
+        }
+        return inserted;
+    }
+
+    /**
+     * 개선 방식: 500건 단위 JDBC 배치 upsert
+     */
+    @Benchmark
+    public int batchedUpsert() {
+        return movieBulkRepository.upsertAll(movies);
+    }
+
+    private static void bind(PreparedStatement ps, Movie movie) throws SQLException {
+        ps.setString(1, movie.getTmdbId());
+        ps.setString(2, movie.getTitle());
+        ps.setObject(3, movie.getReleaseDate());
+        ps.setObject(4, movie.getRating());
+        ps.setString(5, movie.getGenre());
+        ps.setString(6, movie.getOverview());
+        ps.setString(7, movie.getPosterUrl());
+        ps.setString(8, movie.getBackdropUrl());
+        ps.setObject(9, movie.getPopularity());
+        ps.setObject(10, movie.getVoteCount());
+        ps.setString(11, movie.getTrailerUrl());
+        ps.setObject(12, movie.getCreatedAt());
+    }
+}
@@ -0,0 +1,70 @@
+package com.moviediary.backend.security;
+
+import com.moviediary.backend.user.domain.Role;
+import com.moviediary.backend.user.domain.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 🧪 JWT 인증 필터 처리량 (요청 1건 = 헤더 추출 → 토큰 검증 → SecurityContext 설정)
+ * - legacyDoubleParse: 이전 방식 (validateToken + getUsernameFromToken 이 각각 파서를 만들어 두 번 검증, DB 조회 제외)
+ * - filter: 현재 필터 (verifiedCacheSize=0 이면 매번 서명 검증, 그 외에는 검증 캐시 적중)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtAuthenticationFilterBenchmark {
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    private Key key;
+    private String token;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000, verifiedCacheSize);
+        token = jwtTokenProvider.generateToken(User.builder().id(42L).username("benchmark-user").role(Role.USER).build());
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, mock(TokenDenyList.class), mock(UserPrincipalCache.class));
+        request = new MockHttpServletRequest("GET", "/api/movies");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
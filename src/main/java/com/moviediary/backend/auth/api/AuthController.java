@@ -1,6 +1,8 @@
 package com.moviediary.backend.auth.api;
 
 import com.moviediary.backend.security.JwtTokenProvider;
+import com.moviediary.backend.security.TokenDenyList;
+import com.moviediary.backend.user.domain.Role;
 import com.moviediary.backend.user.domain.User;
 import com.moviediary.backend.user.dao.UserRepository;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,6 +22,7 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenDenyList tokenDenyList;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -32,11 +34,25 @@ public class AuthController {
         );
 
         // JWT 토큰 생성
-        String token = jwtTokenProvider.generateToken((UserDetails) authentication.getPrincipal());
+        String token = jwtTokenProvider.generateToken((User) authentication.getPrincipal());
 
         return ResponseEntity.ok(token);
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        String token = JwtTokenProvider.resolveToken(authorization);
+        if (token == null) {
+            return ResponseEntity.badRequest().body("토큰이 없습니다.");
+        }
+
+        // 토큰 폐기 (만료 시각까지 모든 노드에서 거부)
+        jwtTokenProvider.authenticate(token).ifPresent(claims ->
+                tokenDenyList.revoke(JwtTokenProvider.tokenId(claims, token), claims.getExpiration().getTime()));
+
+        return ResponseEntity.ok("로그아웃 성공!");
+    }
+
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestParam String username, @RequestParam String email, @RequestParam String password) {
         if (userRepository.existsByUsername(username)) {
@@ -47,6 +63,7 @@ public class AuthController {
         newUser.setUsername(username);
         newUser.setEmail(email);
         newUser.setPassword(passwordEncoder.encode(password));
+        newUser.setRole(Role.USER);
 
         userRepository.save(newUser);
 
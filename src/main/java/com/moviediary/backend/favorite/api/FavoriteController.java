@@ -0,0 +1,92 @@
+package com.moviediary.backend.favorite.api;
+
+import com.moviediary.backend.favorite.application.FavoriteService;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/favorites")
+@RequiredArgsConstructor
+@Tag(name = "Favorite API", description = "영화 즐겨찾기 관련 API")
+public class FavoriteController {
+    private static final int MAX_CHECK_IDS = 100;
+
+    private final FavoriteService favoriteService;
+
+    @Operation(summary = "즐겨찾기 추가 (이미 추가된 영화면 false)")
+    @PostMapping("/{movieId}")
+    public ResponseEntity<Boolean> addFavorite(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long movieId) {
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(favoriteService.addFavorite(principal.getUserId(), movieId));
+    }
+
+    @Operation(summary = "즐겨찾기 삭제 (즐겨찾기에 없던 영화면 false)")
+    @DeleteMapping("/{movieId}")
+    public ResponseEntity<Boolean> removeFavorite(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long movieId) {
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(favoriteService.removeFavorite(principal.getUserId(), movieId));
+    }
+
+    @Operation(summary = "즐겨찾기 영화 목록 조회 (영화 ID 순, No-Offset)")
+    @GetMapping
+    public ResponseEntity<List<MovieProjection>> getFavorites(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(defaultValue = "0") Long lastId) {
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(favoriteService.getFavorites(principal.getUserId(), lastId));
+    }
+
+    @Operation(summary = "특정 영화 즐겨찾기 여부")
+    @GetMapping("/{movieId}")
+    public ResponseEntity<Boolean> isFavorite(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long movieId) {
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(favoriteService.isFavorite(principal.getUserId(), movieId));
+    }
+
+    @Operation(summary = "여러 영화 중 즐겨찾기한 영화 ID 조회 (영화 목록 화면 표시용, 최대 100개)")
+    @GetMapping("/check")
+    public ResponseEntity<List<Long>> getFavoritedMovieIds(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam List<Long> movieIds) {
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (movieIds.size() > MAX_CHECK_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(favoriteService.getFavoritedMovieIds(principal.getUserId(), movieIds));
+    }
+}
@@ -0,0 +1,167 @@
+package com.moviediary.backend.favorite.application;
+
+import com.moviediary.backend.favorite.dao.FavoriteRepository;
+import com.moviediary.backend.movie.application.MovieService;
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * ⭐ 즐겨찾기 서비스
+ * - 사용자별 Redis 세트(favorites:v2:{userId})가 읽기/쓰기 기준, DB 는 FavoriteWriteBehind 가 배치로 반영
+ * - 세트에는 적재 여부 표시용 멤버 "loaded" 를 함께 두어, 조회 한 번으로 "적재됨 + 포함 여부" 를 확인
+ * - 적재는 표시가 없을 때만 채우는 Lua 스크립트로 처리 (늦게 끝난 적재가 그 사이 삭제된 영화를 되살리지 않도록)
+ * - 추가/삭제할 때마다 TTL 연장
+ * - 여러 영화 포함 여부는 SMISMEMBER 한 번으로 확인 (목록 화면 표시용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FavoriteService {
+    private static final String FAVORITE_KEY_PREFIX = "favorites:v2:"; // v1 세트는 "0" 을 적재 표시로 사용
+    private static final String LOADED_MARKER = "loaded"; // 영화 ID 와 겹치지 않도록 숫자가 아닌 값
+    private static final RedisScript<Long> LOAD_FAVORITES_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/load-favorites.lua"), Long.class);
+    private static final int PAGE_SIZE = 10;
+
+    private final FavoriteRepository favoriteRepository;
+    private final FavoriteWriteBehind favoriteWriteBehind;
+    private final MovieRepository movieRepository;
+    private final MovieService movieService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${favorite.cache.ttl-hours:168}")
+    private long cacheTtlHours;
+
+    /**
+     * ➕ 즐겨찾기 추가 (이미 추가된 영화면 false)
+     */
+    public boolean addFavorite(Long userId, Long movieId) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new IllegalArgumentException("영화가 존재하지 않습니다.");
+        }
+        ensureLoaded(userId);
+        Long added = stringRedisTemplate.opsForSet().add(key(userId), movieId.toString());
+        touch(userId);
+        if (added == null || added == 0) {
+            return false;
+        }
+        favoriteWriteBehind.record(userId, movieId, true);
+        return true;
+    }
+
+    /**
+     * ➖ 즐겨찾기 삭제 (즐겨찾기에 없던 영화면 false)
+     */
+    public boolean removeFavorite(Long userId, Long movieId) {
+        ensureLoaded(userId);
+        Long removed = stringRedisTemplate.opsForSet().remove(key(userId), movieId.toString());
+        touch(userId);
+        if (removed == null || removed == 0) {
+            return false;
+        }
+        favoriteWriteBehind.record(userId, movieId, false);
+        return true;
+    }
+
+    /**
+     * 📋 즐겨찾기 영화 목록 (영화 ID 오름차순, lastId 이후 10개)
+     */
+    public List<MovieProjection> getFavorites(Long userId, Long lastId) {
+        ensureLoaded(userId);
+        Set<String> members = stringRedisTemplate.opsForSet().members(key(userId));
+        if (members == null) {
+            return List.of();
+        }
+        List<Long> movieIds = members.stream()
+                .filter(member -> !LOADED_MARKER.equals(member))
+                .map(Long::valueOf)
+                .filter(movieId -> movieId > lastId)
+                .sorted()
+                .limit(PAGE_SIZE)
+                .toList();
+        return movieService.getMovieSummaries(movieIds);
+    }
+
+    public boolean isFavorite(Long userId, Long movieId) {
+        return getFavoritedMovieIds(userId, List.of(movieId)).contains(movieId);
+    }
+
+    /**
+     * ✅ 주어진 영화 중 즐겨찾기한 영화 ID (요청 순서 유지, Redis 왕복 1회)
+     */
+    public List<Long> getFavoritedMovieIds(Long userId, List<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Object, Boolean> membership = checkMembers(userId, movieIds);
+        if (!Boolean.TRUE.equals(membership.get(LOADED_MARKER))) {
+            load(userId);
+            membership = checkMembers(userId, movieIds);
+        }
+
+        List<Long> favorited = new ArrayList<>();
+        for (Long movieId : movieIds) {
+            if (Boolean.TRUE.equals(membership.get(movieId.toString()))) {
+                favorited.add(movieId);
+            }
+        }
+        return favorited;
+    }
+
+    private Map<Object, Boolean> checkMembers(Long userId, List<Long> movieIds) {
+        Object[] members = new Object[movieIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < movieIds.size(); i++) {
+            members[i + 1] = movieIds.get(i).toString();
+        }
+        Map<Object, Boolean> membership = stringRedisTemplate.opsForSet().isMember(key(userId), members);
+        return membership != null ? membership : Map.of();
+    }
+
+    private void ensureLoaded(Long userId) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(key(userId), LOADED_MARKER))) {
+            load(userId);
+        }
+    }
+
+    /**
+     * 📥 DB 즐겨찾기 + 아직 반영 안 된 변경으로 세트 적재 (이미 적재돼 있으면 아무것도 하지 않음)
+     */
+    private void load(Long userId) {
+        Set<Long> movieIds = new HashSet<>(favoriteRepository.findMovieIdsByUserId(userId));
+        favoriteWriteBehind.pendingFor(userId).forEach((movieId, favorited) -> {
+            if (favorited) {
+                movieIds.add(movieId);
+            } else {
+                movieIds.remove(movieId);
+            }
+        });
+
+        String[] args = new String[movieIds.size() + 2];
+        args[0] = LOADED_MARKER;
+        args[1] = Long.toString(Duration.ofHours(cacheTtlHours).toSeconds());
+        int i = 2;
+        for (Long movieId : movieIds) {
+            args[i++] = movieId.toString();
+        }
+        stringRedisTemplate.execute(LOAD_FAVORITES_SCRIPT, List.of(key(userId)), (Object[]) args);
+    }
+
+    private void touch(Long userId) {
+        stringRedisTemplate.expire(key(userId), Duration.ofHours(cacheTtlHours));
+    }
+
+    private static String key(Long userId) {
+        return FAVORITE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,120 @@
+package com.moviediary.backend.favorite.application;
+
+import com.moviediary.backend.favorite.dao.FavoriteBulkRepository;
+import com.moviediary.backend.favorite.domain.FavoriteChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📌 즐겨찾기 Write-Behind 버퍼
+ * - 요청 시에는 Redis 세트만 바꾸고, DB 반영은 (사용자, 영화) 단위로 마지막 상태만 모아 주기적으로 배치 처리
+ * - DB 반영 후 FavoriteChangedEvent 발행 (추천 갱신은 DB 기준으로 다시 읽으므로 반영 뒤에 알림)
+ * - 종료 시 남은 변경도 반영, 실패한 배치는 새 변경이 없을 때만 다음 주기로 되돌림
+ */
+@Slf4j
+@Component
+public class FavoriteWriteBehind {
+    private final FavoriteBulkRepository favoriteBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentHashMap<UserMovie, Boolean> pending = new ConcurrentHashMap<>();
+
+    private final Timer flushLatency;
+    private final Counter flushFailures;
+
+    public FavoriteWriteBehind(FavoriteBulkRepository favoriteBulkRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry) {
+        this.favoriteBulkRepository = favoriteBulkRepository;
+        this.eventPublisher = eventPublisher;
+        Gauge.builder("favorite.write-behind.pending", pending, ConcurrentHashMap::size)
+                .description("DB 반영을 기다리는 즐겨찾기 변경 수")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("favorite.write-behind.flush.latency")
+                .description("즐겨찾기 배치 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("favorite.write-behind.flush.failures")
+                .description("다음 주기로 미뤄진 즐겨찾기 배치 반영 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ➕ / ➖ 변경 기록 (같은 사용자·영화의 이전 변경은 덮어씀)
+     */
+    public void record(Long userId, Long movieId, boolean favorited) {
+        pending.put(new UserMovie(userId, movieId), favorited);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 사용자의 변경 (영화 ID → 즐겨찾기 여부)
+     */
+    public Map<Long, Boolean> pendingFor(Long userId) {
+        Map<Long, Boolean> result = new HashMap<>();
+        pending.forEach((key, favorited) -> {
+            if (key.userId().equals(userId)) {
+                result.put(key.movieId(), favorited);
+            }
+        });
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${favorite.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        Map<UserMovie, Boolean> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<long[]> added = new ArrayList<>();
+        List<long[]> removed = new ArrayList<>();
+        batch.forEach((key, favorited) ->
+                (favorited ? added : removed).add(new long[]{key.userId(), key.movieId()}));
+
+        Timer.Sample sample = Timer.start();
+        try {
+            favoriteBulkRepository.insertAll(added, LocalDateTime.now());
+            favoriteBulkRepository.deleteAll(removed);
+        } catch (Exception e) {
+            log.error("❌ 즐겨찾기 배치 반영 실패 ({}건), 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+            flushFailures.increment();
+            batch.forEach(pending::putIfAbsent);
+            return;
+        } finally {
+            sample.stop(flushLatency);
+        }
+        batch.keySet().forEach(key -> eventPublisher.publishEvent(new FavoriteChangedEvent(key.userId(), key.movieId())));
+    }
+
+    private Map<UserMovie, Boolean> drain() {
+        Map<UserMovie, Boolean> batch = new HashMap<>();
+        for (Map.Entry<UserMovie, Boolean> entry : pending.entrySet()) {
+            // 꺼내는 사이 값이 바뀌었으면 제거되지 않음 → 다음 주기에 최신 값으로 반영
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("🛑 종료 전 남은 즐겨찾기 변경 반영");
+        flush();
+    }
+
+    private record UserMovie(Long userId, Long movieId) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.moviediary.backend.favorite.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 🚚 즐겨찾기 일괄 반영 (JDBC 배치, write-behind flush 전용)
+ * - 추가는 INSERT IGNORE: 이미 있는 (user_id, movie_id) 나 삭제된 영화는 경고로 넘어감
+ */
+@Repository
+@RequiredArgsConstructor
+public class FavoriteBulkRepository {
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO favorite (user_id, movie_id, added_at) VALUES (?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM favorite WHERE user_id = ? AND movie_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<long[]> userMoviePairs, LocalDateTime addedAt) {
+        if (userMoviePairs.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(addedAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, userMoviePairs, BATCH_SIZE, (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+
+    public void deleteAll(List<long[]> userMoviePairs) {
+        if (userMoviePairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, userMoviePairs, BATCH_SIZE, (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.moviediary.backend.favorite.dao;
+
+import com.moviediary.backend.favorite.domain.Favorite;
+import com.moviediary.backend.favorite.dto.FavoriteSignal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
+
+    // 사용자 즐겨찾기 영화 ID (Redis 세트 적재용)
+    @Query("SELECT f.movie.id FROM Favorite f WHERE f.user.id = :userId")
+    List<Long> findMovieIdsByUserId(Long userId);
+
+    // 추천 계산용 즐겨찾기 No-Offset 배치 조회
+    @Query("SELECT f.id AS id, f.user.id AS userId, f.movie.id AS movieId " +
+            "FROM Favorite f WHERE f.id > :lastId ORDER BY f.id ASC LIMIT 5000")
+    List<FavoriteSignal> findSignalsAfter(Long lastId);
+
+    // 추천 증분 갱신용 사용자 즐겨찾기
+    @Query("SELECT f.id AS id, f.user.id AS userId, f.movie.id AS movieId " +
+            "FROM Favorite f WHERE f.user.id = :userId ORDER BY f.id ASC")
+    List<FavoriteSignal> findSignalsByUserId(Long userId);
+}
@@ -11,7 +11,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "favorite")
+@Table(name = "favorite", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_favorite_user_movie", columnNames = {"user_id", "movie_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
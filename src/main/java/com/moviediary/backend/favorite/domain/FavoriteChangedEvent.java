@@ -0,0 +1,7 @@
+package com.moviediary.backend.favorite.domain;
+
+/**
+ * 📨 즐겨찾기 추가 / 삭제 이벤트 (커밋 후 추천 갱신에 사용)
+ */
+public record FavoriteChangedEvent(Long userId, Long movieId) {
+}
@@ -0,0 +1,10 @@
+package com.moviediary.backend.favorite.dto;
+
+/**
+ * 추천 계산용 즐겨찾기 (사용자, 영화)
+ */
+public interface FavoriteSignal {
+    Long getId();
+    Long getUserId();
+    Long getMovieId();
+}
@@ -0,0 +1,497 @@
+package com.moviediary.backend.global.common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 🕸️ HNSW 근사 최근접 이웃 인덱스 (코사인 유사도, long id → float 벡터)
+ * - 벡터는 L2 정규화해 저장하고 유사도는 내적으로 계산
+ * - 벡터와 연결 목록은 원시 배열에 보관, 이미 있는 id 를 다시 넣으면 벡터만 교체 (연결은 유지)
+ * - save/load 는 메모리 맵 파일로 저장·복원 (재시작 시 전체 재구성 불필요)
+ * - 스레드 안전하지 않음 (외부에서 동기화, 검색끼리는 동시에 호출 가능)
+ */
+public class HnswIndex {
+    private static final int MAGIC = 0x484E5357; // "HNSW"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 8;
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelFactor;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private long[] ids;
+    private float[] vectors;
+    private int[][][] links; // node → level → [count, neighbor...]
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(int dimension, int m, int efConstruction) {
+        this(dimension, m, efConstruction, 1024);
+    }
+
+    private HnswIndex(int dimension, int m, int efConstruction, int initialCapacity) {
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelFactor = 1 / Math.log(m);
+        this.ids = new long[initialCapacity];
+        this.vectors = new float[initialCapacity * dimension];
+        this.links = new int[initialCapacity][][];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 색인된 id 중 최댓값 (비어 있으면 0)
+     */
+    public long maxId() {
+        long max = 0;
+        for (int node = 0; node < size; node++) {
+            max = Math.max(max, ids[node]);
+        }
+        return max;
+    }
+
+    public boolean contains(long id) {
+        return nodeById.containsKey(id);
+    }
+
+    /**
+     * 저장된 (정규화된) 벡터 복사본, 없으면 null
+     */
+    public float[] vector(long id) {
+        Integer node = nodeById.get(id);
+        return node == null ? null : Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+    }
+
+    /**
+     * ➕ 벡터 추가 (이미 있는 id 면 벡터만 교체)
+     */
+    public void add(long id, float[] vector) {
+        float[] normalized = normalize(vector);
+        Integer existing = nodeById.get(id);
+        if (existing != null) {
+            System.arraycopy(normalized, 0, vectors, existing * dimension, dimension);
+            return;
+        }
+
+        ensureCapacity(size + 1);
+        int node = size++;
+        ids[node] = id;
+        System.arraycopy(normalized, 0, vectors, node * dimension, dimension);
+        nodeById.put(id, node);
+
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelFactor);
+        links[node] = new int[level + 1][];
+        for (int lc = 0; lc <= level; lc++) {
+            links[node][lc] = new int[(lc == 0 ? maxM0 : m) + 1];
+        }
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int lc = maxLevel; lc > level; lc--) {
+            current = greedyClosest(normalized, current, lc);
+        }
+        for (int lc = Math.min(level, maxLevel); lc >= 0; lc--) {
+            NodeHeap candidates = searchLayer(normalized, current, efConstruction, lc);
+            int[] sorted = candidates.drainDescending();
+            int[] selected = selectNeighbors(sorted, normalized, lc == 0 ? maxM0 : m);
+            for (int neighbor : selected) {
+                connect(node, neighbor, lc);
+                connect(neighbor, node, lc);
+            }
+            current = sorted[0];
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    /**
+     * 🔍 질의 벡터와 가장 유사한 최대 k개 (유사도 내림차순)
+     */
+    public Result search(float[] query, int k, int ef) {
+        if (entryPoint < 0 || k <= 0) {
+            return new Result(new long[0], new float[0]);
+        }
+        float[] normalized = normalize(query);
+        int current = entryPoint;
+        for (int lc = maxLevel; lc > 0; lc--) {
+            current = greedyClosest(normalized, current, lc);
+        }
+        NodeHeap found = searchLayer(normalized, current, Math.max(ef, k), 0);
+        while (found.size() > k) {
+            found.pollWorst();
+        }
+
+        int n = found.size();
+        long[] resultIds = new long[n];
+        float[] similarities = new float[n];
+        for (int i = n - 1; i >= 0; i--) {
+            similarities[i] = found.worstScore();
+            resultIds[i] = ids[found.pollWorst()];
+        }
+        return new Result(resultIds, similarities);
+    }
+
+    /**
+     * 두 정규화 벡터의 코사인 유사도
+     */
+    public static float cosine(float[] left, float[] right) {
+        float dot = 0;
+        for (int i = 0; i < left.length; i++) {
+            dot += left[i] * right[i];
+        }
+        return dot;
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int best = start;
+        float bestScore = similarity(query, start);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[best][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                float score = similarity(query, neighbors[i]);
+                if (score > bestScore) {
+                    best = neighbors[i];
+                    bestScore = score;
+                    improved = true;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 한 층에서 ef 개의 후보 탐색 (결과는 최악 원소가 맨 위인 힙)
+     */
+    private NodeHeap searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(size);
+        NodeHeap candidates = new NodeHeap(ef * 2);
+        NodeHeap results = new NodeHeap(ef + 1);
+
+        float startScore = similarity(query, start);
+        visited.set(start);
+        candidates.push(start, -startScore);
+        results.push(start, startScore);
+
+        while (candidates.size() > 0) {
+            float candidateScore = -candidates.worstScore();
+            int candidate = candidates.pollWorst();
+            if (results.size() >= ef && candidateScore < results.worstScore()) {
+                break;
+            }
+            int[][] nodeLinks = links[candidate];
+            if (level >= nodeLinks.length) {
+                continue;
+            }
+            int[] neighbors = nodeLinks[level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = similarity(query, neighbor);
+                if (results.size() < ef || score > results.worstScore()) {
+                    candidates.push(neighbor, -score);
+                    results.push(neighbor, score);
+                    if (results.size() > ef) {
+                        results.pollWorst();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 휴리스틱 이웃 선택: 이미 고른 이웃보다 질의에 더 가까운 후보만 채택 (군집 간 연결 유지),
+     * 자리가 남으면 버린 후보로 채움
+     */
+    private int[] selectNeighbors(int[] sortedCandidates, float[] query, int max) {
+        int[] selected = new int[Math.min(max, sortedCandidates.length)];
+        boolean[] taken = new boolean[sortedCandidates.length];
+        int count = 0;
+        for (int i = 0; i < sortedCandidates.length && count < selected.length; i++) {
+            int candidate = sortedCandidates[i];
+            float toQuery = similarity(query, candidate);
+            boolean diverse = true;
+            for (int j = 0; j < count; j++) {
+                if (similarity(candidate, selected[j]) > toQuery) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidate;
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < sortedCandidates.length && count < selected.length; i++) {
+            if (!taken[i]) {
+                selected[count++] = sortedCandidates[i];
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * from → to 연결 추가 (가득 차면 기존 이웃 + to 에서 휴리스틱으로 다시 선택)
+     */
+    private void connect(int from, int to, int level) {
+        int[] neighbors = links[from][level];
+        int count = neighbors[0];
+        if (count < neighbors.length - 1) {
+            neighbors[++count] = to;
+            neighbors[0] = count;
+            return;
+        }
+
+        float[] base = Arrays.copyOfRange(vectors, from * dimension, (from + 1) * dimension);
+        NodeHeap candidates = new NodeHeap(count + 1);
+        candidates.push(to, similarity(base, to));
+        for (int i = 1; i <= count; i++) {
+            candidates.push(neighbors[i], similarity(base, neighbors[i]));
+        }
+        int[] selected = selectNeighbors(candidates.drainDescending(), base, count);
+        System.arraycopy(selected, 0, neighbors, 1, selected.length);
+    }
+
+    private float similarity(float[] query, int node) {
+        int offset = node * dimension;
+        float dot = 0;
+        for (int i = 0; i < dimension; i++) {
+            dot += query[i] * vectors[offset + i];
+        }
+        return dot;
+    }
+
+    private float similarity(int left, int right) {
+        int leftOffset = left * dimension;
+        int rightOffset = right * dimension;
+        float dot = 0;
+        for (int i = 0; i < dimension; i++) {
+            dot += vectors[leftOffset + i] * vectors[rightOffset + i];
+        }
+        return dot;
+    }
+
+    private float[] normalize(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원 불일치: " + vector.length + " != " + dimension);
+        }
+        double sum = 0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        float[] normalized = vector.clone();
+        if (sum > 0) {
+            float scale = (float) (1 / Math.sqrt(sum));
+            for (int i = 0; i < dimension; i++) {
+                normalized[i] *= scale;
+            }
+        }
+        return normalized;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(needed, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        vectors = Arrays.copyOf(vectors, capacity * dimension);
+        links = Arrays.copyOf(links, capacity);
+    }
+
+    /**
+     * 💾 메모리 맵 파일로 저장 (임시 파일에 쓴 뒤 교체)
+     * - 헤더 | ids | vectors | 노드별 (층 수, 층별 [이웃 수, 이웃...])
+     */
+    public void save(Path path) throws IOException {
+        long bytes = HEADER_BYTES + (long) size * Long.BYTES + (long) size * dimension * Float.BYTES;
+        for (int node = 0; node < size; node++) {
+            bytes += Integer.BYTES;
+            for (int[] level : links[node]) {
+                bytes += (long) (level[0] + 1) * Integer.BYTES;
+            }
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(dimension).putInt(m).putInt(efConstruction)
+                    .putInt(size).putInt(entryPoint).putInt(maxLevel);
+            buffer.asLongBuffer().put(ids, 0, size);
+            buffer.position(buffer.position() + size * Long.BYTES);
+            buffer.asFloatBuffer().put(vectors, 0, size * dimension);
+            buffer.position(buffer.position() + size * dimension * Float.BYTES);
+            for (int node = 0; node < size; node++) {
+                buffer.putInt(links[node].length);
+                for (int[] level : links[node]) {
+                    for (int i = 0; i <= level[0]; i++) {
+                        buffer.putInt(level[i]);
+                    }
+                }
+            }
+            buffer.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 📂 메모리 맵 파일에서 복원 (형식이나 차원이 다르면 예외)
+     */
+    public static HnswIndex load(Path path, int expectedDimension) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 HNSW 인덱스 파일: " + path);
+            }
+            int dimension = buffer.getInt();
+            if (dimension != expectedDimension) {
+                throw new IOException("HNSW 인덱스 차원 불일치: " + dimension + " != " + expectedDimension);
+            }
+            int m = buffer.getInt();
+            int efConstruction = buffer.getInt();
+            int size = buffer.getInt();
+
+            HnswIndex index = new HnswIndex(dimension, m, efConstruction, Math.max(size, 1024));
+            index.size = size;
+            index.entryPoint = buffer.getInt();
+            index.maxLevel = buffer.getInt();
+            buffer.asLongBuffer().get(index.ids, 0, size);
+            buffer.position(buffer.position() + size * Long.BYTES);
+            buffer.asFloatBuffer().get(index.vectors, 0, size * dimension);
+            buffer.position(buffer.position() + size * dimension * Float.BYTES);
+            for (int node = 0; node < size; node++) {
+                int levels = buffer.getInt();
+                index.links[node] = new int[levels][];
+                for (int lc = 0; lc < levels; lc++) {
+                    int[] neighbors = new int[(lc == 0 ? index.maxM0 : m) + 1];
+                    neighbors[0] = buffer.getInt();
+                    for (int i = 1; i <= neighbors[0]; i++) {
+                        neighbors[i] = buffer.getInt();
+                    }
+                    index.links[node][lc] = neighbors;
+                }
+                index.nodeById.put(index.ids[node], node);
+            }
+            return index;
+        }
+    }
+
+    public record Result(long[] ids, float[] similarities) {
+    }
+
+    /**
+     * (노드, 점수) 최소 힙 - 맨 위가 점수가 가장 낮은 원소
+     */
+    private static final class NodeHeap {
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+
+        NodeHeap(int capacity) {
+            nodes = new int[Math.max(capacity, 4)];
+            scores = new float[nodes.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        float worstScore() {
+            return scores[0];
+        }
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= score) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                scores[i] = scores[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            scores[i] = score;
+        }
+
+        int pollWorst() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastScore = scores[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && scores[child + 1] < scores[child]) {
+                    child++;
+                }
+                if (scores[child] >= lastScore) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                scores[i] = scores[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            scores[i] = lastScore;
+            return top;
+        }
+
+        /**
+         * 점수 내림차순 노드 배열 (힙은 비워짐)
+         */
+        int[] drainDescending() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = pollWorst();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.moviediary.backend.global.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ⏱️ 고정 간격 요청 속도 제한기
+ * - 초당 허용 횟수만큼 실행 시점을 균등하게 배분하고, 차례가 올 때까지 호출 스레드를 대기
+ * - 가상 스레드에서 사용하는 것을 전제로 sleep 으로 대기
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private final AtomicLong nextFreeSlot = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    public void acquire() throws InterruptedException {
+        long now = System.nanoTime();
+        long previous = nextFreeSlot.getAndAccumulate(now, (slot, current) -> Math.max(slot, current) + intervalNanos);
+        long waitNanos = Math.max(previous, now) - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.moviediary.backend.global.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 🛫 동일 키 요청 병합 (Single-Flight)
+ * - 같은 키로 진행 중인 호출이 있으면 새 호출 없이 그 결과를 공유
+ * - 호출이 끝나면 키를 제거하므로 결과를 캐싱하지는 않음
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @return 결과 future 와 병합 여부 (true 면 다른 호출의 결과를 공유)
+     */
+    public Call<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            return new Call<>(existing.copy(), true);
+        }
+
+        try {
+            call.get().whenComplete((value, error) -> {
+                inFlight.remove(key, leader);
+                if (error != null) {
+                    leader.completeExceptionally(error);
+                } else {
+                    leader.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+        }
+        return new Call<>(leader.copy(), false);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public record Call<V>(CompletableFuture<V> result, boolean coalesced) {
+    }
+}
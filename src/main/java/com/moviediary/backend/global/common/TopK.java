@@ -0,0 +1,100 @@
+package com.moviediary.backend.global.common;
+
+/**
+ * 🏆 (long id, float score) 상위 K개 선택 (크기 K 최소 힙, 박싱 없음)
+ * - 점수가 같으면 id 가 작은 쪽을 우선
+ */
+public class TopK {
+    private final long[] ids;
+    private final float[] scores;
+    private int size;
+
+    public TopK(int k) {
+        this.ids = new long[k];
+        this.scores = new float[k];
+    }
+
+    public void offer(long id, float score) {
+        if (ids.length == 0) {
+            return;
+        }
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (better(id, score, ids[0], scores[0])) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순 id 배열 (힙은 비워짐)
+     */
+    public long[] drainIds() {
+        long[] result = new long[size];
+        drain(result, null);
+        return result;
+    }
+
+    /**
+     * 점수 내림차순으로 ids/scores 배열을 채움 (힙은 비워짐, 배열 길이는 size 이상)
+     */
+    public void drain(long[] outIds, float[] outScores) {
+        for (int i = size - 1; i >= 0; i--) {
+            outIds[i] = ids[0];
+            if (outScores != null) {
+                outScores[i] = scores[0];
+            }
+            size--;
+            ids[0] = ids[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(ids[parent], scores[parent], ids[index], scores[index])) {
+                break;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = (index << 1) + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && better(ids[left], scores[left], ids[right], scores[right]) ? right : left;
+            if (!better(ids[index], scores[index], ids[worst], scores[worst])) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private static boolean better(long id, float score, long otherId, float otherScore) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
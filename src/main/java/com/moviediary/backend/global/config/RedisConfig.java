@@ -2,14 +2,19 @@ package com.moviediary.backend.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.moviediary.backend.global.infra.MovieListRedisSerializer;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 @Configuration
 @EnableCaching
 public class RedisConfig {
@@ -21,4 +26,21 @@ public class RedisConfig {
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer(new ObjectMapper().registerModule(new JavaTimeModule())));
         return template;
     }
+
+    // 영화 목록 캐시 전용 (버전이 있는 바이너리 형식, JSON 대비 크기/역직렬화 비용 절감)
+    @Bean
+    public RedisTemplate<String, List<MovieSummaryDto>> movieListRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, List<MovieSummaryDto>> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new MovieListRedisSerializer());
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -0,0 +1,191 @@
+package com.moviediary.backend.global.infra;
+
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📦 영화 요약 목록 전용 바이너리 코덱 (영화 페이지, 인기 영화 뷰, 검색/추천 결과)
+ * - 레이아웃(v1): [버전 1B][개수 varint] + 영화마다 [플래그 1B][id varint][title][posterUrl][popularity 8B]
+ * - 문자열은 [길이 varint][UTF-8], TMDB 이미지 URL 은 공통 접두어를 빼고 경로만 저장
+ * - 모르는 버전(이전 JSON 값 포함)은 null 로 돌려 캐시 미스로 처리 → 다시 적재되며 새 형식으로 덮어씀
+ */
+@Slf4j
+public class MovieListRedisSerializer implements RedisSerializer<List<MovieSummaryDto>> {
+    static final byte VERSION = 1;
+    static final String TMDB_IMAGE_PREFIX = "https://image.tmdb.org/t/p/w500";
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_TITLE = 1 << 1;
+    private static final int HAS_POSTER = 1 << 2;
+    private static final int TMDB_POSTER = 1 << 3;
+    private static final int HAS_POPULARITY = 1 << 4;
+
+    @Override
+    public byte[] serialize(List<MovieSummaryDto> movies) {
+        if (movies == null) {
+            return null;
+        }
+        Writer out = new Writer(16 + movies.size() * 64);
+        out.writeByte(VERSION);
+        out.writeVarLong(movies.size());
+        for (MovieSummaryDto movie : movies) {
+            String posterUrl = movie.getPosterUrl();
+            boolean tmdbPoster = posterUrl != null && posterUrl.startsWith(TMDB_IMAGE_PREFIX);
+            int flags = (movie.getId() != null ? HAS_ID : 0)
+                    | (movie.getTitle() != null ? HAS_TITLE : 0)
+                    | (posterUrl != null ? HAS_POSTER : 0)
+                    | (tmdbPoster ? TMDB_POSTER : 0)
+                    | (movie.getPopularity() != null ? HAS_POPULARITY : 0);
+            out.writeByte(flags);
+            if (movie.getId() != null) {
+                out.writeVarLong(movie.getId());
+            }
+            if (movie.getTitle() != null) {
+                out.writeString(movie.getTitle());
+            }
+            if (posterUrl != null) {
+                out.writeString(tmdbPoster ? posterUrl.substring(TMDB_IMAGE_PREFIX.length()) : posterUrl);
+            }
+            if (movie.getPopularity() != null) {
+                out.writeDouble(movie.getPopularity());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public List<MovieSummaryDto> deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != VERSION) {
+            log.debug("지원하지 않는 영화 목록 캐시 형식 (version byte: {}), 캐시 미스로 처리", bytes[0]);
+            return null;
+        }
+        try {
+            Reader in = new Reader(bytes, 1);
+            long count = in.readVarLong();
+            if (count < 0 || count > bytes.length) {
+                throw new ArrayIndexOutOfBoundsException("count " + count);
+            }
+            List<MovieSummaryDto> movies = new ArrayList<>((int) count);
+            for (int i = 0; i < count; i++) {
+                int flags = in.readByte();
+                Long id = (flags & HAS_ID) != 0 ? in.readVarLong() : null;
+                String title = (flags & HAS_TITLE) != 0 ? in.readString() : null;
+                String posterUrl = null;
+                if ((flags & HAS_POSTER) != 0) {
+                    posterUrl = in.readString();
+                    if ((flags & TMDB_POSTER) != 0) {
+                        posterUrl = TMDB_IMAGE_PREFIX + posterUrl;
+                    }
+                }
+                Double popularity = (flags & HAS_POPULARITY) != 0 ? in.readDouble() : null;
+                movies.add(new MovieSummaryDto(id, title, posterUrl, popularity));
+            }
+            return movies;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            log.warn("⚠️ 손상된 영화 목록 캐시 값 ({} bytes), 캐시 미스로 처리", bytes.length);
+            return null;
+        }
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeDouble(double value) {
+            ensureCapacity(8);
+            long bits = Double.doubleToRawLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (bits >>> shift);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, buffer, position, utf8.length);
+            position += utf8.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new ArrayIndexOutOfBoundsException("varint too long");
+        }
+
+        double readDouble() {
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | (buffer[position++] & 0xFF);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > buffer.length) {
+                throw new ArrayIndexOutOfBoundsException("string length " + length);
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
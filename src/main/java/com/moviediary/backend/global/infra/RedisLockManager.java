@@ -0,0 +1,40 @@
+package com.moviediary.backend.global.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 🔒 Redis 기반 분산 락 (SET NX PX + 토큰 비교 해제)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLockManager {
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 락 획득 시도 (성공 시 해제용 토큰 반환, 실패 시 즉시 empty)
+     */
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    /**
+     * 자신이 획득한 락만 해제 (TTL 만료 후 다른 노드가 잡은 락은 건드리지 않음)
+     */
+    public void unlock(String key, String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+}
@@ -0,0 +1,21 @@
+package com.moviediary.backend.global.infra.tmdb;
+
+import lombok.Getter;
+
+/**
+ * ❌ TMDB API 호출 실패 (비정상 응답 코드 또는 통신 오류)
+ */
+@Getter
+public class TmdbApiException extends RuntimeException {
+    private final int statusCode;
+
+    public TmdbApiException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public TmdbApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = -1;
+    }
+}
@@ -0,0 +1,207 @@
+package com.moviediary.backend.global.infra.tmdb;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.moviediary.backend.global.common.SingleFlight;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbMovie;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbPage;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbSearchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 🎬 TMDB API 전용 클라이언트
+ * - JDK HttpClient (HTTP/2, 커넥션 재사용) + 가상 스레드 기반 비동기 호출
+ * - 연결/응답 타임아웃과 동시 요청 수 제한을 설정값으로 관리
+ * - 동일한 요청이 동시에 들어오면 하나의 호출 결과를 공유 (Single-Flight)
+ * - 응답 본문은 스트림에서 바로 타입 있는 레코드로 디코딩 (사용하지 않는 필드는 건너뜀)
+ */
+@Slf4j
+@Component
+public class TmdbClient {
+    private static final List<String> SEARCH_TYPES = List.of("movie", "person", "keyword", "collection");
+
+    private final ObjectReader moviePageReader;
+    private final ObjectReader movieReader;
+    private final ObjectReader searchPageReader;
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration readTimeout;
+    private final Semaphore concurrencyLimit;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+    private final Counter leaderRequests;
+    private final Counter coalescedRequests;
+
+    public TmdbClient(ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${tmdb.api.base-url:https://api.themoviedb.org/3}") String baseUrl,
+                      @Value("${tmdb.api.key}") String apiKey,
+                      @Value("${tmdb.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                      @Value("${tmdb.client.read-timeout-ms:5000}") long readTimeoutMs,
+                      @Value("${tmdb.client.max-concurrent-requests:32}") int maxConcurrentRequests) {
+        this.moviePageReader = objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructParametricType(TmdbPage.class, TmdbMovie.class));
+        this.movieReader = objectMapper.readerFor(TmdbMovie.class);
+        this.searchPageReader = objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructParametricType(TmdbPage.class, TmdbSearchResult.class));
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.concurrencyLimit = new Semaphore(maxConcurrentRequests);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+
+        this.leaderRequests = Counter.builder("tmdb.requests")
+                .tag("outcome", "sent")
+                .description("실제로 TMDB 로 전송된 요청 수")
+                .register(meterRegistry);
+        this.coalescedRequests = Counter.builder("tmdb.requests")
+                .tag("outcome", "coalesced")
+                .description("진행 중인 동일 요청에 병합된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("tmdb.requests.coalesce.ratio", this, TmdbClient::coalesceRatio)
+                .description("전체 요청 중 병합된 요청 비율")
+                .register(meterRegistry);
+        Gauge.builder("tmdb.requests.in-flight", singleFlight, SingleFlight::inFlightCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 🔍 최신 영화 목록 (/discover/movie)
+     */
+    public CompletableFuture<TmdbPage<TmdbMovie>> discoverMovies(int page) {
+        return get("/discover/movie", Map.of("page", String.valueOf(page)), moviePageReader);
+    }
+
+    /**
+     * 🎞️ 영화 상세 정보 (예고편 포함)
+     */
+    public CompletableFuture<TmdbMovie> getMovie(long tmdbMovieId) {
+        return get("/movie/" + tmdbMovieId, Map.of("append_to_response", "videos"), movieReader);
+    }
+
+    /**
+     * 🔎 검색 (movie, person, keyword, collection / 그 외는 movie)
+     */
+    public CompletableFuture<TmdbPage<TmdbSearchResult>> search(String type, String query, int page) {
+        String searchType = normalizeSearchType(type);
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("query", normalizeQuery(query));
+        params.put("include_adult", "false");
+        params.put("language", "en-US");
+        params.put("page", String.valueOf(page));
+        return get("/search/" + searchType, params, searchPageReader);
+    }
+
+    /**
+     * 🔑 정규화된 요청 키(경로 + 정렬된 파라미터) 기준으로 동시 요청 병합
+     * - 경로가 응답 타입을 결정하므로 같은 키의 결과는 항상 같은 타입
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> get(String path, Map<String, String> params, ObjectReader reader) {
+        String requestKey = path + new TreeMap<>(params);
+        SingleFlight.Call<Object> call = singleFlight.execute(requestKey, () -> sendAsync(path, params, reader));
+        (call.coalesced() ? coalescedRequests : leaderRequests).increment();
+        return (CompletableFuture<T>) call.result();
+    }
+
+    private CompletableFuture<Object> sendAsync(String path, Map<String, String> params, ObjectReader reader) {
+        HttpRequest request = HttpRequest.newBuilder(buildUri(path, params))
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return CompletableFuture.supplyAsync(() -> send(request, reader), executor);
+    }
+
+    private Object send(HttpRequest request, ObjectReader reader) {
+        try {
+            concurrencyLimit.acquire();
+            try {
+                HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream body = response.body()) {
+                    if (response.statusCode() != 200) {
+                        throw new TmdbApiException(response.statusCode(),
+                                "TMDB 응답 오류 (" + response.statusCode() + "): " + request.uri().getPath());
+                    }
+                    return reader.readValue(body);
+                }
+            } finally {
+                concurrencyLimit.release();
+            }
+        } catch (IOException e) {
+            throw new TmdbApiException("TMDB 통신 오류: " + request.uri().getPath(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TmdbApiException("TMDB 요청 중단: " + request.uri().getPath(), e);
+        }
+    }
+
+    private URI buildUri(String path, Map<String, String> params) {
+        StringBuilder uri = new StringBuilder(baseUrl).append(path)
+                .append("?api_key=").append(encode(apiKey));
+        params.forEach((name, value) -> uri.append('&').append(name).append('=').append(encode(value)));
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 연속 공백 축소, 소문자)
+     */
+    public static String normalizeQuery(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색 유형 정규화 (movie, person, keyword, collection / 그 외는 movie)
+     */
+    public static String normalizeSearchType(String type) {
+        return SEARCH_TYPES.contains(type) ? type : "movie";
+    }
+
+    private double coalesceRatio() {
+        double coalesced = coalescedRequests.count();
+        double total = coalesced + leaderRequests.count();
+        return total == 0 ? 0 : coalesced / total;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
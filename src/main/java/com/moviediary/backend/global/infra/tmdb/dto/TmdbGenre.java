@@ -0,0 +1,7 @@
+package com.moviediary.backend.global.infra.tmdb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbGenre(int id, String name) {
+}
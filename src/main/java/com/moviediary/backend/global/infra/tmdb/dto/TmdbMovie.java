@@ -0,0 +1,27 @@
+package com.moviediary.backend.global.infra.tmdb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 🎬 TMDB 영화 (목록 응답은 genreIds, 상세 응답은 genres 와 videos 를 채움)
+ * - 사용하지 않는 필드는 파싱 중 건너뜀
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TmdbMovie(long id,
+                        String title,
+                        String releaseDate,
+                        double voteAverage,
+                        List<Integer> genreIds,
+                        List<TmdbGenre> genres,
+                        String overview,
+                        String posterPath,
+                        String backdropPath,
+                        double popularity,
+                        int voteCount,
+                        TmdbVideos videos) {
+}
@@ -0,0 +1,19 @@
+package com.moviediary.backend.global.infra.tmdb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 📄 TMDB 페이지 응답 (/discover, /search 공통)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TmdbPage<T>(int page, List<T> results, int totalPages) {
+
+    public List<T> results() {
+        return results != null ? results : List.of();
+    }
+}
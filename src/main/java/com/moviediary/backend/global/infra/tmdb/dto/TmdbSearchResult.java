@@ -0,0 +1,13 @@
+package com.moviediary.backend.global.infra.tmdb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * 🔎 TMDB 검색 결과 (movie 는 title, person/keyword/collection 은 name)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TmdbSearchResult(long id, String title, String name, String posterPath, double popularity) {
+}
@@ -0,0 +1,13 @@
+package com.moviediary.backend.global.infra.tmdb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TmdbVideos(List<TmdbVideo> results) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record TmdbVideo(String key, String site, String type) {
+    }
+}
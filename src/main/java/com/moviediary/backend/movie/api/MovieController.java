@@ -1,6 +1,7 @@
 package com.moviediary.backend.movie.api;
 
 import com.moviediary.backend.movie.application.MovieService;
+import com.moviediary.backend.movie.domain.Genre;
 import com.moviediary.backend.movie.domain.Movie;
 import com.moviediary.backend.movie.dto.MovieProjection;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,8 +13,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/movies")
@@ -26,18 +29,33 @@ public class MovieController {
             summary = "영화 목록 조회 (No-Offset)",
             description = "lastId 이후의 영화 10개를 조회하는 API. \n\n"
                     + "- 기본적으로 `lastId=0`이면 처음 10개의 영화를 반환합니다.\n"
-                    + "- 이후 `lastId`를 이용해 다음 10개의 데이터를 조회할 수 있습니다."
+                    + "- 이후 `lastId`를 이용해 다음 10개의 데이터를 조회할 수 있습니다.\n"
+                    + "- `genres`(TMDB 장르 ID, 쉼표 구분)를 주면 모든 장르에 속하는 영화만 ID 순으로 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "영화 목록 조회 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 (lastId가 유효하지 않음)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (lastId 또는 장르 ID가 유효하지 않음)"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
     public ResponseEntity<List<MovieProjection>> getMovies(
             @Parameter(description = "마지막으로 조회된 영화 ID (기본값: 0)", example = "15")
-            @RequestParam(required = false, defaultValue = "0") Long lastId) {
-        return ResponseEntity.ok(movieService.getMovies(lastId));
+            @RequestParam(required = false, defaultValue = "0") Long lastId,
+            @Parameter(description = "TMDB 장르 ID 목록 (예: 28,12 → 액션이면서 모험)", example = "28,12")
+            @RequestParam(required = false) List<Integer> genres) {
+        if (genres == null || genres.isEmpty()) {
+            return ResponseEntity.ok(movieService.getMovies(lastId));
+        }
+
+        Set<Genre> genreFilter = EnumSet.noneOf(Genre.class);
+        for (Integer genreId : genres) {
+            Optional<Genre> genre = genreId == null ? Optional.empty() : Genre.fromTmdbId(genreId);
+            if (genre.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            genreFilter.add(genre.get());
+        }
+        return ResponseEntity.ok(movieService.getMoviesByGenres(genreFilter, lastId));
     }
 
     @Operation(
@@ -0,0 +1,242 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.global.common.RateLimiter;
+import com.moviediary.backend.global.infra.RedisLockManager;
+import com.moviediary.backend.global.infra.tmdb.TmdbClient;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbMovie;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbPage;
+import com.moviediary.backend.movie.dao.MovieBulkRepository;
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Movie;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 🎬 TMDB 카탈로그 백그라운드 수집기
+ * - /discover/movie 여러 페이지를 속도 제한 하에 동시에 가져와 새 영화만 배치 저장
+ * - 이미 저장된 TMDB ID 는 메모리 집합으로 중복 제거, 진행 페이지는 Redis 체크포인트로 이어서 수집
+ * - 사용자 요청은 수집을 기다리지 않음 (requestBackfill 은 즉시 반환)
+ */
+@Slf4j
+@Component
+public class MovieCatalogIngestor {
+    private static final String CHECKPOINT_KEY = "movie-ingest:checkpoint";
+    private static final String LOCK_KEY = "movie-ingest:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int TMDB_MAX_PAGE = 500;
+    private static final int SAVE_BATCH_SIZE = 2000;
+
+    private final MovieRepository movieRepository;
+    private final MovieBulkRepository movieBulkRepository;
+    private final TmdbClient tmdbClient;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisLockManager redisLockManager;
+    private final MovieIndexUpdater movieIndexUpdater;
+    private final MovieLocalCache movieLocalCache;
+    private final RateLimiter rateLimiter;
+    private final int pagesPerRun;
+
+    private final Set<String> knownTmdbIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MovieCatalogIngestor(MovieRepository movieRepository,
+                                MovieBulkRepository movieBulkRepository,
+                                TmdbClient tmdbClient,
+                                StringRedisTemplate stringRedisTemplate,
+                                RedisLockManager redisLockManager,
+                                MovieIndexUpdater movieIndexUpdater,
+                                MovieLocalCache movieLocalCache,
+                                @Value("${movie.ingest.requests-per-second:20}") double requestsPerSecond,
+                                @Value("${movie.ingest.pages-per-run:20}") int pagesPerRun) {
+        this.movieRepository = movieRepository;
+        this.movieBulkRepository = movieBulkRepository;
+        this.tmdbClient = tmdbClient;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisLockManager = redisLockManager;
+        this.movieIndexUpdater = movieIndexUpdater;
+        this.movieLocalCache = movieLocalCache;
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+        this.pagesPerRun = pagesPerRun;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadKnownTmdbIds() {
+        knownTmdbIds.addAll(movieRepository.findAllTmdbIds());
+        log.info("✅ 저장된 TMDB ID {}개 적재", knownTmdbIds.size());
+    }
+
+    /**
+     * 📨 카탈로그 보충 요청 (이미 수집 중이면 무시, 호출 스레드는 기다리지 않음)
+     */
+    public void requestBackfill() {
+        if (!running.get()) {
+            executor.execute(this::ingest);
+        }
+    }
+
+    /**
+     * ⏳ 주기적 수집 (노드 간 단일 실행)
+     */
+    @Scheduled(fixedDelayString = "${movie.ingest.interval-ms:600000}",
+            initialDelayString = "${movie.ingest.initial-delay-ms:60000}")
+    public void ingest() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Optional<String> token = redisLockManager.tryLock(LOCK_KEY, LOCK_TTL);
+            if (token.isEmpty()) {
+                log.info("⏳ 다른 노드가 카탈로그 수집 중");
+                return;
+            }
+            try {
+                ingestPages();
+            } finally {
+                redisLockManager.unlock(LOCK_KEY, token.get());
+            }
+        } catch (Exception e) {
+            log.error("❌ TMDB 카탈로그 수집 중 오류 발생: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void ingestPages() {
+        int startPage = readCheckpoint();
+        int endPage = Math.min(startPage + pagesPerRun - 1, TMDB_MAX_PAGE);
+        log.info("🎬 Fetching movies from TMDB (page {} ~ {})...", startPage, endPage);
+
+        List<CompletableFuture<PageResult>> futures = IntStream.rangeClosed(startPage, endPage)
+                .mapToObj(this::fetchPage)
+                .collect(Collectors.toList());
+
+        int firstFailedPage = -1;
+        int totalPages = TMDB_MAX_PAGE;
+        List<Movie> newMovies = new ArrayList<>();
+        for (CompletableFuture<PageResult> future : futures) {
+            PageResult result = future.join();
+            if (result.failed()) {
+                if (firstFailedPage < 0) {
+                    firstFailedPage = result.page();
+                }
+                continue;
+            }
+            totalPages = Math.min(totalPages, result.totalPages());
+            newMovies.addAll(result.newMovies());
+        }
+
+        int affectedRows = save(newMovies);
+
+        int nextPage = firstFailedPage > 0 ? firstFailedPage : endPage + 1;
+        if (nextPage > totalPages) {
+            nextPage = 1; // 마지막 페이지까지 수집했으면 처음부터 (신규 개봉작 반영)
+        }
+        writeCheckpoint(nextPage, totalPages);
+        log.info("✅ 영화 {}개 upsert, 영향받은 행 {} (신규 1, 갱신 2) (다음 수집 페이지: {})",
+                newMovies.size(), affectedRows, nextPage);
+    }
+
+    /**
+     * 🌐 페이지 수집 (속도 제한 → 요청 → 새 TMDB ID 만 Movie 로 변환)
+     */
+    private CompletableFuture<PageResult> fetchPage(int page) {
+        return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        rateLimiter.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("수집 중단", e);
+                    }
+                    return tmdbClient.discoverMovies(page).join();
+                }, executor)
+                .thenApply(body -> toPageResult(page, body))
+                .exceptionally(e -> {
+                    log.warn("⚠️ TMDB {} 페이지 수집 실패: {}", page, e.getMessage());
+                    return PageResult.failure(page);
+                });
+    }
+
+    private PageResult toPageResult(int page, TmdbPage<TmdbMovie> body) {
+        int totalPages = body.totalPages() > 0 ? body.totalPages() : TMDB_MAX_PAGE;
+
+        List<Movie> movies = new ArrayList<>(body.results().size());
+        for (TmdbMovie data : body.results()) {
+            String tmdbId = String.valueOf(data.id());
+            if (!knownTmdbIds.add(tmdbId)) {
+                continue;
+            }
+            try {
+                movies.add(TmdbMovieMapper.toMovie(data));
+            } catch (Exception e) {
+                knownTmdbIds.remove(tmdbId);
+                log.error("❌ Error mapping movie data: {}", e.getMessage());
+            }
+        }
+        return new PageResult(page, totalPages, movies, false);
+    }
+
+    /**
+     * 💾 JDBC 배치 upsert 후 검색/장르 인덱스 반영 및 목록 캐시 무효화 (실패한 배치는 다음 수집에서 재시도)
+     * - 반환값은 영향받은 행 수 합계 (MovieBulkRepository.upsertAll)
+     */
+    private int save(List<Movie> newMovies) {
+        int affectedRows = 0;
+        for (int from = 0; from < newMovies.size(); from += SAVE_BATCH_SIZE) {
+            List<Movie> batch = newMovies.subList(from, Math.min(from + SAVE_BATCH_SIZE, newMovies.size()));
+            try {
+                affectedRows += movieBulkRepository.upsertAll(batch);
+                List<String> tmdbIds = batch.stream().map(Movie::getTmdbId).collect(Collectors.toList());
+                List<Movie> savedMovies = movieRepository.findAllByTmdbIdIn(tmdbIds);
+                movieIndexUpdater.indexAndPublish(savedMovies);
+            } catch (Exception e) {
+                batch.forEach(movie -> knownTmdbIds.remove(movie.getTmdbId()));
+                log.error("❌ 영화 배치 저장 실패 ({}개): {}", batch.size(), e.getMessage());
+            }
+        }
+        if (affectedRows > 0) {
+            movieLocalCache.publishInvalidation(MovieLocalCache.PAGES);
+        }
+        return affectedRows;
+    }
+
+    private int readCheckpoint() {
+        Object nextPage = stringRedisTemplate.opsForHash().get(CHECKPOINT_KEY, "nextPage");
+        return nextPage == null ? 1 : Integer.parseInt(nextPage.toString());
+    }
+
+    private void writeCheckpoint(int nextPage, int totalPages) {
+        stringRedisTemplate.opsForHash().putAll(CHECKPOINT_KEY, Map.of(
+                "nextPage", String.valueOf(nextPage),
+                "totalPages", String.valueOf(totalPages),
+                "updatedAt", LocalDateTime.now().toString()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record PageResult(int page, int totalPages, List<Movie> newMovies, boolean failed) {
+        static PageResult failure(int page) {
+            return new PageResult(page, 0, List.of(), true);
+        }
+    }
+}
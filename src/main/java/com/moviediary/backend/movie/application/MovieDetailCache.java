@@ -0,0 +1,154 @@
+package com.moviediary.backend.movie.application;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.moviediary.backend.global.infra.tmdb.TmdbApiException;
+import com.moviediary.backend.global.infra.tmdb.TmdbClient;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbMovie;
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Movie;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 🎞️ 영화 상세 정보 Read-Through 캐시
+ * - 로컬 ID 캐시(DB)와 TMDB ID 캐시(DB tmdb_id → TMDB API)를 분리해 같은 숫자의 두 ID 가 섞이지 않도록 보관
+ * - 조회는 로컬 ID 로 먼저 찾고, 없으면 TMDB ID 로 간주
+ * - 없는 영화는 짧은 TTL 로 부정 캐싱 (TMDB 는 404 일 때만), TMDB 에서 가져온 영화는 비동기로 DB 저장
+ * - TMDB 장애 등 그 밖의 오류는 그대로 전파 (404 가 아닌 5xx 로 응답)
+ */
+@Slf4j
+@Component
+public class MovieDetailCache {
+    private final MovieRepository movieRepository;
+    private final TmdbClient tmdbClient;
+    private final MovieIndexUpdater movieIndexUpdater;
+    private final ExecutorService persistExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LoadingCache<Long, Optional<Movie>> byLocalId;
+    private final LoadingCache<Long, Optional<Movie>> byTmdbId;
+
+    public MovieDetailCache(MovieRepository movieRepository,
+                            TmdbClient tmdbClient,
+                            MovieIndexUpdater movieIndexUpdater,
+                            @Value("${movie.detail-cache.max-size:10000}") long maxSize,
+                            @Value("${movie.detail-cache.ttl-minutes:30}") long ttlMinutes,
+                            @Value("${movie.detail-cache.refresh-minutes:5}") long refreshMinutes,
+                            @Value("${movie.detail-cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        this.movieRepository = movieRepository;
+        this.tmdbClient = tmdbClient;
+        this.movieIndexUpdater = movieIndexUpdater;
+        PresenceBasedExpiry expiry = new PresenceBasedExpiry(Duration.ofMinutes(ttlMinutes), Duration.ofSeconds(negativeTtlSeconds));
+        this.byLocalId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expiry)
+                .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+                .build(movieRepository::findById);
+        this.byTmdbId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expiry)
+                .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+                .build(this::loadByTmdbId);
+    }
+
+    /**
+     * 🎬 영화 상세 정보 조회 (캐시 미스 시 로컬 ID → TMDB ID 순서)
+     * - TMDB 에 없는 영화(404)만 빈 결과, 그 밖의 오류는 예외로 전파
+     */
+    public Optional<Movie> get(Long movieId) {
+        Optional<Movie> movie = byLocalId.get(movieId);
+        if (movie.isPresent()) {
+            return movie;
+        }
+        try {
+            return byTmdbId.get(movieId);
+        } catch (CompletionException e) {
+            log.error("❌ 영화 상세 정보를 가져오는 중 오류 발생 (ID: {}): {}", movieId, e.getMessage());
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private Optional<Movie> loadByTmdbId(Long tmdbId) {
+        // 이전에 TMDB 에서 가져와 저장된 영화
+        Optional<Movie> movie = movieRepository.findByTmdbId(String.valueOf(tmdbId));
+        if (movie.isPresent()) {
+            return movie;
+        }
+
+        // TMDB API에서 상세 정보 가져오기
+        TmdbMovie data;
+        try {
+            data = tmdbClient.getMovie(tmdbId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TmdbApiException tmdbError && tmdbError.getStatusCode() == 404) {
+                log.info("🔍 TMDB에 존재하지 않는 영화 (ID: {})", tmdbId);
+                return Optional.empty();
+            }
+            throw e;
+        }
+
+        if (data == null) {
+            throw new TmdbApiException("TMDB 영화 응답이 비어 있음 (ID: " + tmdbId + ")", null);
+        }
+
+        Movie fetchedMovie = TmdbMovieMapper.toMovie(data);
+        CompletableFuture.runAsync(() -> persist(tmdbId, fetchedMovie), persistExecutor);
+        return Optional.of(fetchedMovie);
+    }
+
+    /**
+     * 💾 TMDB 에서 가져온 영화를 DB 에 저장 후 캐시 항목 교체 (동시 저장 충돌은 무시)
+     */
+    private void persist(Long tmdbId, Movie movie) {
+        try {
+            if (movieRepository.findByTmdbId(movie.getTmdbId()).isPresent()) {
+                return;
+            }
+            Movie saved = movieRepository.save(movie);
+            byTmdbId.put(tmdbId, Optional.of(saved));
+            byLocalId.put(saved.getId(), Optional.of(saved));
+            movieIndexUpdater.indexAndPublish(List.of(saved));
+            log.info("💾 TMDB 영화 상세 정보 저장 완료 (TMDB ID: {})", saved.getTmdbId());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 저장된 영화 (TMDB ID: {})", movie.getTmdbId());
+        } catch (Exception e) {
+            log.error("❌ TMDB 영화 저장 실패 (TMDB ID: {}): {}", movie.getTmdbId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persistExecutor.shutdown();
+    }
+
+    /**
+     * ⏳ 존재하는 영화는 긴 TTL, 존재하지 않는 영화(부정 캐시)는 짧은 TTL
+     */
+    private record PresenceBasedExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Long, Optional<Movie>> {
+        @Override
+        public long expireAfterCreate(Long key, Optional<Movie> value, long currentTime) {
+            return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<Movie> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<Movie> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Genre;
+import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieGenreProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 🎭 장르 → 영화 ID 비트맵 인덱스 (RoaringBitmap)
+ * - 애플리케이션 시작 시 (id, genre_mask) 만 No-Offset 배치로 적재, 이후 영화 저장 시 증분 색인
+ * - 다른 노드가 수집한 영화는 주기적으로 id > lastIndexedId 만 조회해 반영
+ * - 여러 장르 필터는 가장 작은 비트맵을 lastId 이후부터 훑으며 나머지 비트맵에 모두 있는 ID 만 채택
+ * - 영화 ID 는 부호 없는 32비트 범위(약 42억)까지 지원
+ */
+@Slf4j
+@Component
+public class MovieGenreIndex {
+    private static final int LOAD_BATCH_SIZE = 10000;
+    private static final long MAX_MOVIE_ID = 0xFFFF_FFFFL;
+
+    private final MovieRepository movieRepository;
+    private final RoaringBitmap[] moviesByGenre = new RoaringBitmap[Genre.values().length];
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long lastIndexedId;
+
+    public MovieGenreIndex(MovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+        for (Genre genre : Genre.values()) {
+            moviesByGenre[genre.ordinal()] = new RoaringBitmap();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        int total = syncNewMovies();
+        log.info("✅ 장르 인덱스 적재 완료 ({}개 영화)", total);
+    }
+
+    /**
+     * ⏳ 마지막으로 적재한 ID 이후의 영화만 (id, genre_mask) 배치로 추가
+     * - 저장/갱신된 영화는 MovieIndexUpdater 가 Pub/Sub 으로 모든 노드에 전파하고, 이 주기 동기화는 놓친 새 영화를 보충
+     */
+    @Scheduled(fixedDelayString = "${movie.index.sync-interval-ms:60000}",
+            initialDelayString = "${movie.index.sync-interval-ms:60000}")
+    public int syncNewMovies() {
+        int total = 0;
+        List<MovieGenreProjection> batch;
+        do {
+            batch = movieRepository.findGenreMasksAfter(lastIndexedId);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (MovieGenreProjection movie : batch) {
+                    indexLocked(movie.getId(), movie.getGenreMask());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastIndexedId = batch.get(batch.size() - 1).getId();
+            total += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        if (total > 0) {
+            lock.writeLock().lock();
+            try {
+                for (RoaringBitmap bitmap : moviesByGenre) {
+                    bitmap.runOptimize();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * ➕ 영화 증분 색인 (장르가 바뀐 영화는 이전 장르에서 제거)
+     */
+    public void index(Collection<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Movie movie : movies) {
+                if (movie.getId() != null) {
+                    indexLocked(movie.getId(), movie.getGenreMask());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexLocked(long movieId, long genreMask) {
+        if (movieId > MAX_MOVIE_ID) {
+            log.warn("⚠️ 장르 인덱스 범위를 넘는 영화 ID: {}", movieId);
+            return;
+        }
+        int value = (int) movieId;
+        for (Genre genre : Genre.values()) {
+            if ((genreMask & genre.mask()) != 0) {
+                moviesByGenre[genre.ordinal()].add(value);
+            } else {
+                moviesByGenre[genre.ordinal()].remove(value);
+            }
+        }
+    }
+
+    /**
+     * 🔍 모든 장르에 속하는 영화 ID 를 lastId 이후부터 오름차순으로 최대 size 개
+     */
+    public List<Long> findMovieIds(Set<Genre> genres, long lastId, int size) {
+        if (genres.isEmpty() || lastId >= MAX_MOVIE_ID) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap[] bitmaps = genres.stream()
+                    .map(genre -> moviesByGenre[genre.ordinal()])
+                    .sorted(Comparator.comparingInt(RoaringBitmap::getCardinality))
+                    .toArray(RoaringBitmap[]::new);
+
+            List<Long> result = new ArrayList<>(size);
+            PeekableIntIterator candidates = bitmaps[0].getIntIterator();
+            candidates.advanceIfNeeded((int) (lastId + 1));
+            while (candidates.hasNext() && result.size() < size) {
+                int candidate = candidates.next();
+                if (containsAll(bitmaps, candidate)) {
+                    result.add(Integer.toUnsignedLong(candidate));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containsAll(RoaringBitmap[] bitmaps, int movieId) {
+        for (int i = 1; i < bitmaps.length; i++) {
+            if (!bitmaps[i].contains(movieId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
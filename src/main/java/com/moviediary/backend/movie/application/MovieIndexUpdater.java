@@ -0,0 +1,86 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Movie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 🔁 저장/갱신된 영화를 모든 노드의 검색/장르 인덱스에 반영
+ * - 저장한 노드는 바로 색인하고, 영화 ID 를 캐시 무효화 채널(MovieLocalCache.INVALIDATION_CHANNEL)로 전파
+ * - 다른 노드는 메시지를 받으면 DB 에서 해당 영화를 다시 읽어 색인 (기존 행의 인기도/제목/장르 변경 포함)
+ * - 메시지 형식: "reindex:{노드 ID}:{영화 ID,영화 ID,...}" (자기 노드가 보낸 메시지는 무시)
+ */
+@Slf4j
+@Component
+public class MovieIndexUpdater implements MessageListener {
+    private final MovieRepository movieRepository;
+    private final MovieSearchIndex movieSearchIndex;
+    private final MovieGenreIndex movieGenreIndex;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public MovieIndexUpdater(MovieRepository movieRepository,
+                             MovieSearchIndex movieSearchIndex,
+                             MovieGenreIndex movieGenreIndex,
+                             RedisTemplate<String, Object> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer) {
+        this.movieRepository = movieRepository;
+        this.movieSearchIndex = movieSearchIndex;
+        this.movieGenreIndex = movieGenreIndex;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(MovieLocalCache.INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * ➕ 저장된 영화를 이 노드에 색인하고 다른 노드에 재색인 요청
+     */
+    public void indexAndPublish(Collection<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        movieSearchIndex.index(movies);
+        movieGenreIndex.index(movies);
+        String movieIds = movies.stream()
+                .map(Movie::getId)
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        redisTemplate.convertAndSend(MovieLocalCache.INVALIDATION_CHANNEL,
+                MovieLocalCache.REINDEX_PREFIX + nodeId + ":" + movieIds);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null || !body.toString().startsWith(MovieLocalCache.REINDEX_PREFIX)) {
+            return;
+        }
+        String[] parts = body.toString().substring(MovieLocalCache.REINDEX_PREFIX.length()).split(":", 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            List<Long> movieIds = new ArrayList<>();
+            for (String movieId : parts[1].split(",")) {
+                movieIds.add(Long.valueOf(movieId));
+            }
+            List<Movie> movies = movieRepository.findAllByIdIn(movieIds);
+            movieSearchIndex.index(movies);
+            movieGenreIndex.index(movies);
+            log.debug("🔁 다른 노드에서 저장된 영화 {}개 재색인", movies.size());
+        } catch (RuntimeException e) {
+            log.error("❌ 영화 재색인 실패: {}", e.getMessage());
+        }
+    }
+}
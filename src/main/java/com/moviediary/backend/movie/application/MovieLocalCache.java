@@ -0,0 +1,96 @@
+package com.moviediary.backend.movie.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 🧊 영화 목록 L1(인프로세스) 캐시
+ * - Redis(L2) 앞단에서 인기 영화 목록과 `movies:lastId:*` 페이지를 보관
+ * - 무효화는 Redis Pub/Sub 으로 전파되어 모든 노드의 L1 이 함께 비워짐
+ */
+@Slf4j
+@Component
+public class MovieLocalCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "movie-cache:invalidate";
+
+    static final String POPULAR = "popular";
+    static final String PAGES = "pages";
+    static final String ALL = "all";
+    static final String REINDEX_PREFIX = "reindex:"; // 같은 채널의 영화 재색인 메시지 (MovieIndexUpdater 가 처리)
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<Long, List<MovieProjection>> pageCache;
+    private final Cache<String, List<MovieProjection>> popularCache;
+
+    public MovieLocalCache(RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           @Value("${movie.cache.local.page-max-size:1000}") long pageMaxSize,
+                           @Value("${movie.cache.local.ttl-seconds:30}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.pageCache = Caffeine.newBuilder()
+                .maximumSize(pageMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.popularCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 🔥 인기 영화 목록 조회 (L1 미스 시 loader 호출)
+     */
+    public List<MovieProjection> getPopularMovies(Supplier<List<MovieProjection>> loader) {
+        return popularCache.get(POPULAR, key -> loader.get());
+    }
+
+    /**
+     * 🎬 lastId 기준 영화 페이지 조회 (L1 미스 시 loader 호출)
+     */
+    public List<MovieProjection> getPage(Long lastId, Function<Long, List<MovieProjection>> loader) {
+        return pageCache.get(lastId, loader);
+    }
+
+    /**
+     * 📢 모든 노드에 L1 무효화 전파
+     * - 자기 자신도 구독 중이므로 리스너 스레드에서 비워짐 (로더 실행 중 재귀 무효화 방지)
+     */
+    public void publishInvalidation(String target) {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, target);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object target = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (target != null && !target.toString().startsWith(REINDEX_PREFIX)) {
+            evict(target.toString());
+        }
+    }
+
+    private void evict(String target) {
+        switch (target) {
+            case POPULAR -> popularCache.invalidateAll();
+            case PAGES -> pageCache.invalidateAll();
+            case ALL -> {
+                popularCache.invalidateAll();
+                pageCache.invalidateAll();
+            }
+            default -> log.warn("⚠️ 알 수 없는 캐시 무효화 대상: {}", target);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.moviediary.backend.movie.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📌 영화 인기 점수 Write-Behind 누적기
+ * - 조회 시마다 ZINCRBY 를 보내지 않고 영화 ID별 LongAdder 에 누적
+ * - 일정 주기로 한 번의 파이프라인 배치로 Redis 에 반영 (종료 시에도 반영)
+ * - flush 마다 누적 맵을 새 맵으로 교체하므로 maxPendingMovies 는 한 주기 안의 영화 수만 제한
+ */
+@Slf4j
+@Component
+public class MoviePopularityAccumulator {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private volatile ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<Long, LongAdder> retired; // 직전 주기 맵 (flush 스레드만 접근)
+    private final int maxPendingMovies;
+
+    private final DistributionSummary flushSize;
+    private final Timer flushLatency;
+    private final Counter droppedIncrements;
+
+    public MoviePopularityAccumulator(RedisTemplate<String, Object> redisTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${movie.popularity.max-pending-movies:100000}") int maxPendingMovies) {
+        this.redisTemplate = redisTemplate;
+        this.maxPendingMovies = maxPendingMovies;
+        this.flushSize = DistributionSummary.builder("movie.popularity.flush.size")
+                .description("한 번의 flush 로 Redis 에 반영된 영화 수")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("movie.popularity.flush.latency")
+                .description("인기 점수 파이프라인 flush 소요 시간")
+                .register(meterRegistry);
+        this.droppedIncrements = Counter.builder("movie.popularity.increments.dropped")
+                .description("누적 한도 초과 또는 flush 실패로 버려진 조회수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ➕ 조회수 1 누적 (Redis 호출 없음)
+     */
+    public void increment(Long movieId) {
+        add(movieId, 1);
+    }
+
+    private void add(Long movieId, long delta) {
+        ConcurrentHashMap<Long, LongAdder> current = pending;
+        LongAdder adder = current.get(movieId);
+        if (adder == null) {
+            if (current.size() >= maxPendingMovies) {
+                droppedIncrements.increment(delta);
+                return;
+            }
+            adder = current.computeIfAbsent(movieId, id -> new LongAdder());
+        }
+        adder.add(delta);
+    }
+
+    /**
+     * 🚀 누적된 조회수를 하나의 파이프라인으로 Redis ZSET 에 반영
+     */
+    @Scheduled(fixedDelayString = "${movie.popularity.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ZSetOperations<String, Object> zSet = ((RedisOperations<String, Object>) operations).opsForZSet();
+                    batch.forEach((movieId, delta) -> zSet.incrementScore(MovieService.POPULAR_MOVIE_KEY, movieId, delta));
+                    return null;
+                }
+            });
+            flushSize.record(batch.size());
+        } catch (Exception e) {
+            log.error("❌ 인기 점수 flush 실패 ({}개 영화), 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+            batch.forEach(this::add);
+        } finally {
+            sample.stop(flushLatency);
+        }
+    }
+
+    /**
+     * 🧹 누적 맵을 새 맵으로 교체하고 이전 맵의 누적값을 꺼냄
+     * - 교체 직전에 이전 맵의 adder 를 잡은 조회 스레드의 증가분은 다음 주기에 이전 맵을 한 번 더 비워 반영
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> batch = new HashMap<>();
+        if (retired != null) {
+            collect(retired, batch);
+        }
+        retired = pending;
+        pending = new ConcurrentHashMap<>();
+        collect(retired, batch);
+        return batch;
+    }
+
+    private static void collect(Map<Long, LongAdder> source, Map<Long, Long> batch) {
+        source.forEach((movieId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batch.merge(movieId, delta, Long::sum);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("🛑 종료 전 남은 인기 점수 flush");
+        flush();
+    }
+}
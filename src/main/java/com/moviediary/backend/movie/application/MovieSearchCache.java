@@ -0,0 +1,93 @@
+package com.moviediary.backend.movie.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviediary.backend.global.infra.tmdb.TmdbClient;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 🔎 검색 결과 캐시 (정규화된 type + query + page 기준)
+ * - L1: 크기 제한 인메모리 캐시, L2: 선택적 Redis 캐시 (둘 다 TTL 적용)
+ * - 적중/미스 통계는 actuator metrics (movie.search) 로 노출
+ */
+@Slf4j
+@Component
+public class MovieSearchCache {
+    private static final String SEARCH_CACHE_KEY_PREFIX = "movies:search:";
+
+    private final RedisTemplate<String, List<MovieSummaryDto>> movieListRedisTemplate;
+    private final Cache<SearchKey, List<MovieSummaryDto>> localCache;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public MovieSearchCache(RedisTemplate<String, List<MovieSummaryDto>> movieListRedisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${movie.search-cache.max-size:10000}") long maxSize,
+                            @Value("${movie.search-cache.ttl-seconds:300}") long ttlSeconds,
+                            @Value("${movie.search-cache.redis-enabled:false}") boolean redisEnabled) {
+        this.movieListRedisTemplate = movieListRedisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "movie.search");
+        this.redisHits = Counter.builder("movie.search.cache.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("movie.search.cache.redis").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 🔍 검색 결과 조회 (L1 → Redis → loader 순서)
+     */
+    public List<MovieProjection> get(String type, String query, int page, Supplier<List<MovieSummaryDto>> loader) {
+        SearchKey key = SearchKey.of(type, query, page);
+        return List.copyOf(localCache.get(key, k -> loadThroughRedis(k, loader)));
+    }
+
+    private List<MovieSummaryDto> loadThroughRedis(SearchKey key, Supplier<List<MovieSummaryDto>> loader) {
+        if (!redisEnabled) {
+            return loader.get();
+        }
+
+        String redisKey = key.toRedisKey();
+        List<MovieSummaryDto> cached = movieListRedisTemplate.opsForValue().get(redisKey);
+        if (cached != null) {
+            redisHits.increment();
+            return cached;
+        }
+        redisMisses.increment();
+
+        List<MovieSummaryDto> results = loader.get();
+        movieListRedisTemplate.opsForValue().set(redisKey, results, ttl);
+        return results;
+    }
+
+    /**
+     * 🔑 정규화된 검색 키 (유효하지 않은 type 은 movie, 검색어는 공백/대소문자 정규화)
+     */
+    record SearchKey(String type, String query, int page) {
+        static SearchKey of(String type, String query, int page) {
+            return new SearchKey(TmdbClient.normalizeSearchType(type), TmdbClient.normalizeQuery(query), page);
+        }
+
+        String toRedisKey() {
+            return SEARCH_CACHE_KEY_PREFIX + type + ":" + page + ":" + query;
+        }
+    }
+}
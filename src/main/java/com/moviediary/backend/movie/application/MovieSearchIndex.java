@@ -0,0 +1,285 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.global.common.LongFloatHashMap;
+import com.moviediary.backend.global.common.TopK;
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Genre;
+import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 🔎 영화 로컬 전문 검색 인덱스 (title, overview, genre 역색인)
+ * - 애플리케이션 시작 시 전체 적재, 이후 영화 저장 시 증분 색인 + 주기적으로 id > lastIndexedId 만 추가 적재
+ * - 모든 검색어 토큰은 접두어 매칭 (타이핑 중 검색 지원), 장르는 ID 대신 장르 이름으로 색인
+ * - 점수 = 필드 가중치 합 × 인기도 보정, (점수 desc, id asc) 순서의 (점수, id) 커서로 다음 10개 반환
+ */
+@Slf4j
+@Component
+public class MovieSearchIndex {
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float GENRE_WEIGHT = 1.5f;
+    private static final float OVERVIEW_WEIGHT = 1.0f;
+    private static final float PREFIX_MATCH_PENALTY = 0.5f;
+    private static final int PAGE_SIZE = 10;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final MovieRepository movieRepository;
+    private final double popularityWeight;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, LongFloatHashMap> postings = new TreeMap<>();
+    private final Map<Long, IndexedMovie> movies = new HashMap<>();
+    private volatile long lastIndexedId;
+
+    public MovieSearchIndex(MovieRepository movieRepository,
+                            @Value("${movie.search-index.popularity-weight:0.2}") double popularityWeight) {
+        this.movieRepository = movieRepository;
+        this.popularityWeight = popularityWeight;
+    }
+
+    /**
+     * 🚀 애플리케이션 시작 시 DB 전체 영화 색인 (No-Offset 배치 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        int total = syncNewMovies();
+        log.info("✅ 영화 검색 인덱스 적재 완료 ({}개 영화, {}개 토큰)", total, termCount());
+    }
+
+    /**
+     * ⏳ 마지막으로 적재한 ID 이후의 영화만 색인
+     * - 저장/갱신된 영화는 MovieIndexUpdater 가 Pub/Sub 으로 모든 노드에 전파하고, 이 주기 동기화는 놓친 새 영화를 보충
+     */
+    @Scheduled(fixedDelayString = "${movie.index.sync-interval-ms:60000}",
+            initialDelayString = "${movie.index.sync-interval-ms:60000}")
+    public int syncNewMovies() {
+        int total = 0;
+        List<Movie> batch;
+        do {
+            batch = movieRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastIndexedId);
+            if (batch.isEmpty()) {
+                break;
+            }
+            index(batch);
+            lastIndexedId = batch.get(batch.size() - 1).getId();
+            total += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        return total;
+    }
+
+    /**
+     * ➕ 영화 증분 색인 (이미 색인된 영화는 교체)
+     */
+    public void index(Collection<Movie> newMovies) {
+        if (newMovies.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Movie movie : newMovies) {
+                if (movie.getId() != null) {
+                    indexLocked(movie);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexLocked(Movie movie) {
+        long movieId = movie.getId();
+        removeLocked(movieId);
+
+        Map<String, Float> termWeights = new HashMap<>();
+        addTerms(termWeights, movie.getTitle(), TITLE_WEIGHT);
+        for (Genre genre : Genre.fromMask(movie.getGenreMask())) {
+            addTerms(termWeights, genre.searchTerms(), GENRE_WEIGHT);
+        }
+        addTerms(termWeights, movie.getOverview(), OVERVIEW_WEIGHT);
+
+        termWeights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new LongFloatHashMap()).put(movieId, weight));
+        movies.put(movieId, new IndexedMovie(
+                new MovieSummaryDto(movieId, movie.getTitle(), movie.getPosterUrl(), movie.getPopularity()),
+                termWeights.keySet().toArray(String[]::new)));
+    }
+
+    private void removeLocked(long movieId) {
+        IndexedMovie previous = movies.remove(movieId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            LongFloatHashMap docs = postings.get(term);
+            if (docs != null && docs.remove(movieId) && docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * 🔍 검색 (모든 토큰이 매칭되는 영화만, 최대 10개)
+     * - lastId 가 있으면 현재 인덱스 기준 그 영화의 (점수, id) 다음부터 이어서 반환
+     * - lastId 가 이 검색 결과에 없으면 (삭제, TMDB 결과의 ID 등) 빈 목록 → 첫 페이지 반복 방지
+     */
+    public List<MovieProjection> search(String query, Long lastId) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            LongFloatHashMap scores = null;
+            for (String token : queryTokens) {
+                LongFloatHashMap tokenScores = matchToken(token);
+                scores = scores == null ? tokenScores : intersect(scores, tokenScores);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return page(scores, lastId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 📋 ID 목록의 영화 요약 정보 (색인되지 않은 ID 는 결과에 없음)
+     */
+    public Map<Long, MovieSummaryDto> findSummaries(Collection<Long> movieIds) {
+        Map<Long, MovieSummaryDto> result = new HashMap<>(movieIds.size() * 2);
+        lock.readLock().lock();
+        try {
+            for (Long movieId : movieIds) {
+                IndexedMovie movie = movies.get(movieId);
+                if (movie != null) {
+                    result.put(movieId, movie.summary());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return movies.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰과 정확히 일치하거나 토큰으로 시작하는 모든 용어의 문서 점수 (문서별 최대값)
+     */
+    private LongFloatHashMap matchToken(String token) {
+        LongFloatHashMap result = new LongFloatHashMap();
+        for (Map.Entry<String, LongFloatHashMap> entry
+                : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            float factor = entry.getKey().length() == token.length() ? 1.0f : PREFIX_MATCH_PENALTY;
+            entry.getValue().forEach((movieId, weight) -> {
+                float score = weight * factor;
+                if (score > result.get(movieId, 0f)) {
+                    result.put(movieId, score);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static LongFloatHashMap intersect(LongFloatHashMap left, LongFloatHashMap right) {
+        LongFloatHashMap smaller = left.size() <= right.size() ? left : right;
+        LongFloatHashMap larger = smaller == left ? right : left;
+        LongFloatHashMap result = new LongFloatHashMap(smaller.size());
+        smaller.forEach((movieId, score) -> {
+            float other = larger.get(movieId, -1f);
+            if (other >= 0) {
+                result.put(movieId, score + other);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 텍스트 점수에 인기도(log 스케일)를 곱한 최종 점수
+     */
+    private float finalScore(long movieId, float textScore) {
+        double popularity = Optional.ofNullable(movies.get(movieId).summary().getPopularity()).orElse(0.0);
+        return (float) (textScore * (1 + popularityWeight * Math.log1p(Math.max(popularity, 0))));
+    }
+
+    /**
+     * (점수, id) 커서: (점수 desc, id asc) 순서에서 커서보다 뒤에 있는 상위 10개만 크기 10 힙으로 선택
+     * - 전체 정렬 없음, 커서 영화가 결과에 없으면 빈 목록
+     */
+    private List<MovieProjection> page(LongFloatHashMap textScores, Long lastId) {
+        boolean hasCursor = lastId != null && lastId > 0;
+        if (hasCursor && !textScores.containsKey(lastId)) {
+            return List.of();
+        }
+        float cursorScore = hasCursor ? finalScore(lastId, textScores.get(lastId, 0f)) : Float.POSITIVE_INFINITY;
+        long cursorId = hasCursor ? lastId : Long.MIN_VALUE;
+
+        TopK top = new TopK(PAGE_SIZE);
+        textScores.forEach((movieId, textScore) -> {
+            float score = finalScore(movieId, textScore);
+            if (score < cursorScore || (score == cursorScore && movieId > cursorId)) {
+                top.offer(movieId, score);
+            }
+        });
+
+        List<MovieProjection> result = new ArrayList<>(PAGE_SIZE);
+        for (long movieId : top.drainIds()) {
+            result.add(movies.get(movieId).summary());
+        }
+        return result;
+    }
+
+    private static void addTerms(Map<String, Float> termWeights, String text, float weight) {
+        for (String term : tokenize(text)) {
+            termWeights.merge(term, weight, Math::max);
+        }
+    }
+
+    /**
+     * 소문자 변환 후 문자/숫자가 아닌 문자로 분리
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedMovie(MovieSummaryDto summary, String[] terms) {
+    }
+
+}
@@ -1,22 +1,29 @@
 package com.moviediary.backend.movie.application;
 
+import com.moviediary.backend.global.infra.RedisLockManager;
+import com.moviediary.backend.global.infra.tmdb.TmdbClient;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbPage;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbSearchResult;
 import com.moviediary.backend.movie.dao.MovieRepository;
 import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import com.moviediary.backend.movie.domain.Genre;
 import com.moviediary.backend.movie.domain.Movie;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -26,61 +33,181 @@ import java.util.stream.Stream;
 public class MovieService {
     private final MovieRepository movieRepository;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final RestTemplate restTemplate;
+    private final RedisTemplate<String, List<MovieSummaryDto>> movieListRedisTemplate;
+    private final TmdbClient tmdbClient;
+    private final MovieLocalCache movieLocalCache;
+    private final MovieDetailCache movieDetailCache;
+    private final MovieSearchCache movieSearchCache;
+    private final MovieSearchIndex movieSearchIndex;
+    private final MovieGenreIndex movieGenreIndex;
+    private final MovieCatalogIngestor movieCatalogIngestor;
+    private final MoviePopularityAccumulator moviePopularityAccumulator;
+    private final RedisLockManager redisLockManager;
+
+    static final String POPULAR_MOVIE_KEY = "movie-popularity";
+    private static final String MOVIE_CACHE_KEY_PREFIX = "movies:lastId:";
+    private static final String POPULAR_MOVIE_VIEW_KEY = "movies:popular:view";
+    private static final String POPULAR_REBUILD_LOCK_KEY = "movie-popularity:rebuild-lock";
+    private static final Duration POPULAR_REBUILD_LOCK_TTL = Duration.ofSeconds(30);
+    private static final int GENRE_PAGE_SIZE = 10;
 
-    @Value("${tmdb.api.key}")
-    private String tmdbApiKey;
+    private final ReentrantLock popularRebuildLock = new ReentrantLock();
 
-    private static final String TMDB_SEARCH_URL = "https://api.themoviedb.org/3/search/";
+    @Value("${movie.popular-view.rebuild-threshold:3}")
+    private int popularViewRebuildThreshold;
 
-    private static final String POPULAR_MOVIE_KEY = "movie-popularity";
-    private static final String MOVIE_CACHE_KEY_PREFIX = "movies:lastId:";
+    private static final RedisScript<Long> DECAY_POPULARITY_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/decay-popularity.lua"), Long.class);
+
+    @Value("${movie.popularity.decay.factor:0.9}")
+    private double popularityDecayFactor;
+
+    @Value("${movie.popularity.decay.min-score:0.1}")
+    private double popularityMinScore;
+
+    @Value("${movie.popularity.decay.max-size:10000}")
+    private long popularityMaxSize;
+
+    @Value("${movie.search-index.min-local-hits:3}")
+    private int minLocalSearchHits;
 
     @PostConstruct
     public void init() {
-        log.info("✅ RestTemplate Bean Injected Successfully");
         updatePopularMoviesInCache(); // 애플리케이션 시작 시 인기 영화 업데이트
     }
 
     /**
      * 🎬 영화 목록 조회 (인기 영화 + 일반 조회)
+     * - L1(인프로세스) → L2(Redis) → DB 순서로 조회
      */
     public List<MovieProjection> getMovies(Long lastId) {
-        // 1️⃣ Redis에서 인기 영화 가져오기
-        List<Long> popularMovieIds = getTopPopularMovies();
-        List<MovieProjection> popularMovies = popularMovieIds.isEmpty() ? new ArrayList<>()
-                : movieRepository.findProjectionsByIdIn(popularMovieIds);
+        // 1️⃣ 인기 영화 (L1 캐시, 미스 시 Redis 인기 영화 뷰)
+        List<MovieProjection> popularMovies = movieLocalCache.getPopularMovies(this::getPopularMovieView);
+
+        // 2️⃣ 일반 조회 (L1 캐시, 미스 시 Redis + DB)
+        List<MovieProjection> movies = movieLocalCache.getPage(lastId, this::loadMoviePage);
+
+        // 3️⃣ 인기 영화 + 일반 영화 데이터 합쳐서 반환
+        return mergeMovieLists(popularMovies, movies);
+    }
+
+    /**
+     * 🎭 장르 필터 영화 목록 (모든 장르에 속하는 영화, No-Offset)
+     * - 장르 비트맵 교집합으로 ID 를 고르고 요약 정보는 메모리 검색 인덱스에서
+     */
+    public List<MovieProjection> getMoviesByGenres(Set<Genre> genres, Long lastId) {
+        return getMovieSummaries(movieGenreIndex.findMovieIds(genres, lastId, GENRE_PAGE_SIZE));
+    }
+
+    /**
+     * 🔥 인기 영화 뷰 조회 (순위 순서로 정렬된 영화 정보, Redis 단일 조회)
+     */
+    public List<MovieProjection> getPopularMovieView() {
+        List<MovieSummaryDto> view = movieListRedisTemplate.opsForValue().get(POPULAR_MOVIE_VIEW_KEY);
+        if (view != null) {
+            return List.copyOf(view);
+        }
+        return rebuildPopularMovieView(getTopPopularMovies());
+    }
+
+    /**
+     * 📋 ID 목록 순서대로 영화 요약 정보 조회 (검색 인덱스 → 없는 ID 만 DB)
+     */
+    public List<MovieProjection> getMovieSummaries(List<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MovieProjection> summaries = new HashMap<>(movieSearchIndex.findSummaries(movieIds));
+        List<Long> missingIds = movieIds.stream().filter(id -> !summaries.containsKey(id)).collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            movieRepository.findProjectionsByIdIn(missingIds)
+                    .forEach(movie -> summaries.put(movie.getId(), MovieSummaryDto.from(movie)));
+        }
+        return movieIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 🔄 인기 영화 ID 순위로 뷰 재구성 후 Redis 저장
+     */
+    private List<MovieProjection> rebuildPopularMovieView(List<Long> rankedMovieIds) {
+        Map<Long, MovieProjection> projections = rankedMovieIds.isEmpty() ? Map.of()
+                : movieRepository.findProjectionsByIdIn(rankedMovieIds).stream()
+                .collect(Collectors.toMap(MovieProjection::getId, movie -> movie, (a, b) -> a));
+
+        List<MovieSummaryDto> view = rankedMovieIds.stream()
+                .map(projections::get)
+                .filter(Objects::nonNull)
+                .map(MovieSummaryDto::from)
+                .collect(Collectors.toList());
+        saveView(view);
+        return List.copyOf(view);
+    }
 
-        // 2️⃣ 일반 조회 (캐싱된 데이터 확인)
+    private void saveView(List<MovieSummaryDto> view) {
+        movieListRedisTemplate.opsForValue().set(POPULAR_MOVIE_VIEW_KEY, view);
+        movieLocalCache.publishInvalidation(MovieLocalCache.POPULAR);
+    }
+
+    /**
+     * 📊 인기 순위 변동 감지 → 임계값 초과 시 인기 영화 뷰 재구성
+     */
+    @Scheduled(fixedDelayString = "${movie.popular-view.check-interval-ms:60000}")
+    public void refreshPopularMovieViewIfRankingChanged() {
+        Set<Object> rankedIds = redisTemplate.opsForZSet().reverseRange(POPULAR_MOVIE_KEY, 0, 9);
+        if (rankedIds == null || rankedIds.isEmpty()) {
+            return;
+        }
+        List<Long> currentRanking = rankedIds.stream().map(this::toLong).collect(Collectors.toList());
+
+        List<MovieSummaryDto> view = movieListRedisTemplate.opsForValue().get(POPULAR_MOVIE_VIEW_KEY);
+        List<Long> viewRanking = view == null ? List.of()
+                : view.stream().map(MovieSummaryDto::getId).collect(Collectors.toList());
+
+        int changed = 0;
+        for (int i = 0; i < currentRanking.size(); i++) {
+            if (i >= viewRanking.size() || !currentRanking.get(i).equals(viewRanking.get(i))) {
+                changed++;
+            }
+        }
+        if (changed >= popularViewRebuildThreshold) {
+            log.info("🔄 인기 순위 {}건 변동 → 인기 영화 뷰 재구성", changed);
+            rebuildPopularMovieView(currentRanking);
+        }
+    }
+
+    /**
+     * 📄 lastId 이후 영화 페이지 조회 (L1 미스 시에만 호출)
+     */
+    private List<MovieProjection> loadMoviePage(Long lastId) {
+        // 1️⃣ Redis 캐시 확인
         String cacheKey = MOVIE_CACHE_KEY_PREFIX + lastId;
-        List<MovieProjection> cachedMovies = (List<MovieProjection>) redisTemplate.opsForValue().get(cacheKey);
+        List<MovieSummaryDto> cachedMovies = movieListRedisTemplate.opsForValue().get(cacheKey);
         if (cachedMovies != null) {
-            return mergeMovieLists(popularMovies, cachedMovies);
+            return List.copyOf(cachedMovies);
         }
 
-        // 3️⃣ DB에서 추가 영화 조회
+        // 2️⃣ DB에서 추가 영화 조회
         List<MovieProjection> movies = movieRepository.findTop10ProjectionByIdGreaterThanOrderByIdAsc(lastId);
         if (movies.isEmpty()) {
-            fetchAndSaveNewMovies();
-            movies = movieRepository.findTop10ProjectionByIdGreaterThanOrderByIdAsc(lastId);
-
-            if (movies.isEmpty()) {
-                log.warn("⚠️ TMDB API에서 새로운 영화를 가져왔지만 DB에 저장되지 않았습니다.");
-            }
+            // 카탈로그 보충은 백그라운드에서 진행 (요청은 기다리지 않음, 수집 후 캐시 무효화)
+            movieCatalogIngestor.requestBackfill();
+            return List.of();
         }
 
-        // 4️⃣ 조회된 영화 캐싱 (1시간 유지)
-        redisTemplate.opsForValue().set(cacheKey, movies, Duration.ofHours(1));
-
-        // 5️⃣ 인기 영화 + 일반 영화 데이터 합쳐서 반환
-        return mergeMovieLists(popularMovies, movies);
+        // 3️⃣ 조회된 영화 캐싱 (1시간 유지, JPA 프록시 대신 DTO 로 저장)
+        List<MovieSummaryDto> page = movies.stream().map(MovieSummaryDto::from).collect(Collectors.toList());
+        movieListRedisTemplate.opsForValue().set(cacheKey, page, Duration.ofHours(1));
+        return List.copyOf(page);
     }
 
     /**
-     * 📌 영화 조회 시 인기 점수 증가
+     * 📌 영화 조회 시 인기 점수 증가 (로컬 누적 후 주기적으로 Redis 일괄 반영)
      */
     public void incrementMoviePopularity(Long movieId) {
-        redisTemplate.opsForZSet().incrementScore(POPULAR_MOVIE_KEY, movieId, 1);
+        moviePopularityAccumulator.increment(movieId);
     }
 
     /**
@@ -91,141 +218,99 @@ public class MovieService {
         if (movieIds == null || movieIds.isEmpty()) {
             return updatePopularMoviesInCache(); // 캐시가 없으면 새로 조회
         }
-        return movieIds.stream().map(id -> {
-            if (id instanceof Integer) {
-                return ((Integer) id).longValue(); // Integer → Long 변환
-            }
-            return (Long) id;
-        }).collect(Collectors.toList());
+        return movieIds.stream().map(this::toLong).collect(Collectors.toList());
+    }
+
+    private Long toLong(Object id) {
+        if (id instanceof Integer) {
+            return ((Integer) id).longValue(); // Integer → Long 변환
+        }
+        return (Long) id;
     }
 
     /**
      * 🔥 매일 새벽 4시에 Redis 인기 영화 목록 갱신
+     * - 노드 내(로컬 락) + 노드 간(Redis 락) 단일 실행, 락을 얻지 못하면 기존 순위를 그대로 반환
      */
     @Scheduled(cron = "0 0 4 * * ?")
     public List<Long> updatePopularMoviesInCache() {
-        log.info("🔥 Refreshing popular movies in Redis...");
-
-        // 기존 Redis 인기 영화 삭제
-        redisTemplate.delete(POPULAR_MOVIE_KEY);
-
-        // DB에서 인기 영화 10개 가져오기
-        List<MovieProjection> popularMovies = movieRepository.findTop10PopularMovies();
-
-        // Redis에 저장
-        for (MovieProjection movie : popularMovies) {
-            redisTemplate.opsForZSet().add(POPULAR_MOVIE_KEY, movie.getId().longValue(), movie.getPopularity());
+        if (!popularRebuildLock.tryLock()) {
+            log.info("⏳ 다른 스레드가 인기 영화 갱신 중 → 기존 순위 사용");
+            return readPopularRanking();
         }
-
-        log.info("✅ Popular movies updated successfully!");
-        return popularMovies.stream().map(MovieProjection::getId).collect(Collectors.toList());
-    }
-
-    /**
-     * 🔥 하루에 한 번 Redis 조회수를 감소시켜서 최근 조회된 영화가 더 높은 순위를 유지하도록 함
-     * ⏳ 매일 새벽 3시에 조회수 감소 (오래된 영화의 인기 감소)
-     */
-    @Scheduled(cron = "0 0 3 * * ?")
-    public void decayMoviePopularityScores() {
-        log.info("🔥 Decreasing movie view counts in Redis...");
-        Set<Object> movieIds = redisTemplate.opsForZSet().range(POPULAR_MOVIE_KEY, 0, -1);
-        if (movieIds != null) {
-            for (Object movieId : movieIds) {
-                redisTemplate.opsForZSet().incrementScore(POPULAR_MOVIE_KEY, movieId, -0.1);
+        try {
+            Optional<String> token = redisLockManager.tryLock(POPULAR_REBUILD_LOCK_KEY, POPULAR_REBUILD_LOCK_TTL);
+            if (token.isEmpty()) {
+                log.info("⏳ 다른 노드가 인기 영화 갱신 중 → 기존 순위 사용");
+                return readPopularRanking();
             }
+            try {
+                return rebuildPopularMovies();
+            } finally {
+                redisLockManager.unlock(POPULAR_REBUILD_LOCK_KEY, token.get());
+            }
+        } finally {
+            popularRebuildLock.unlock();
         }
-        log.info("✅ View counts decreased successfully!");
     }
 
     /**
-     * 🎬 TMDB API에서 최신 영화 목록 가져와 DB 저장 (중복 저장 방지)
+     * 🔄 스테이징 키에 새 순위를 한 번에 기록한 뒤 RENAME 으로 원자적 교체 (빈 구간 없음)
      */
-    private void fetchAndSaveNewMovies() {
-        try {
-            log.info("🎬 Fetching movies from TMDB...");
-            String url = "https://api.themoviedb.org/3/discover/movie?api_key=" + tmdbApiKey;
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            List<Map<String, Object>> results = (List<Map<String, Object>>) response.getBody().get("results");
-
-            if (results == null || results.isEmpty()) {
-                log.warn("⚠️ TMDB에서 가져온 영화 데이터가 없음");
-                return;
-            }
-
-            // 기존 저장된 영화 확인 후 새로운 영화만 저장
-            List<String> tmdbIds = results.stream()
-                    .map(data -> String.valueOf(data.get("id")))
-                    .collect(Collectors.toList());
+    private List<Long> rebuildPopularMovies() {
+        log.info("🔥 Refreshing popular movies in Redis...");
 
-            Set<String> existingTmdbIds = new HashSet<>(movieRepository.findTmdbIdsByTmdbIdIn(tmdbIds));
+        // DB에서 인기 영화 10개 가져오기
+        List<MovieProjection> popularMovies = movieRepository.findTop10PopularMovies();
+        if (popularMovies.isEmpty()) {
+            log.warn("⚠️ DB에 영화가 없어 인기 영화 갱신을 건너뜀");
+            return List.of();
+        }
 
-            List<Movie> newMovies = results.stream()
-                    .filter(data -> !existingTmdbIds.contains(String.valueOf(data.get("id"))))
-                    .map(this::mapToMovie)
-                    .collect(Collectors.toList());
+        // 스테이징 키에 단일 ZADD 로 저장 후 교체
+        String stagingKey = POPULAR_MOVIE_KEY + ":staging:" + UUID.randomUUID();
+        Set<ZSetOperations.TypedTuple<Object>> tuples = popularMovies.stream()
+                .map(movie -> new DefaultTypedTuple<Object>(movie.getId().longValue(),
+                        Optional.ofNullable(movie.getPopularity()).orElse(0.0)))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(stagingKey, tuples);
+        redisTemplate.rename(stagingKey, POPULAR_MOVIE_KEY);
 
-            if (!newMovies.isEmpty()) {
-                movieRepository.saveAll(newMovies);
+        // 인기 영화 뷰도 함께 갱신 (이미 순위 순서로 조회된 데이터 재사용)
+        saveView(popularMovies.stream().map(MovieSummaryDto::from).collect(Collectors.toList()));
 
-                List<String> savedTmdbIds = movieRepository.findTmdbIdsByTmdbIdIn(tmdbIds);
-                log.info("✅ {}개의 새로운 영화가 DB에 추가됨 (현재 저장된 TMDB ID 개수: {})", newMovies.size(), savedTmdbIds.size());
-            } else {
-                log.info("✨ 모든 영화가 이미 DB에 존재함 (새로 저장된 영화 없음)");
-            }
+        log.info("✅ Popular movies updated successfully!");
+        return popularMovies.stream().map(MovieProjection::getId).collect(Collectors.toList());
+    }
 
-        } catch (Exception e) {
-            log.error("❌ TMDB 영화 업데이트 중 오류 발생: {}", e.getMessage());
+    private List<Long> readPopularRanking() {
+        Set<Object> movieIds = redisTemplate.opsForZSet().reverseRange(POPULAR_MOVIE_KEY, 0, 9);
+        if (movieIds == null) {
+            return List.of();
         }
+        return movieIds.stream().map(this::toLong).collect(Collectors.toList());
     }
 
     /**
-     * 🔹 TMDB API 응답을 Movie 객체로 변환
+     * 🔥 하루에 한 번 Redis 조회수를 감소시켜서 최근 조회된 영화가 더 높은 순위를 유지하도록 함
+     * ⏳ 매일 새벽 3시에 조회수 감소 (오래된 영화의 인기 감소)
+     * - Lua 스크립트 한 번으로 지수 감쇠 + 최소 점수/최대 개수 정리를 원자적으로 수행
      */
-    private Movie mapToMovie(Map<String, Object> data) {
-        try {
-            String releaseDateStr = (String) data.get("release_date");
-            LocalDate releaseDate = (releaseDateStr != null && !releaseDateStr.isEmpty()) ? LocalDate.parse(releaseDateStr) : null;
-
-            // ✅ 예고편 URL 가져오기
-            String trailerUrl = "";
-            Map<String, Object> videos = (Map<String, Object>) data.get("videos");
-            if (videos != null) {
-                var results = (List<Map<String, Object>>) videos.get("results");
-                for (Map<String, Object> video : results) {
-                    if ("Trailer".equals(video.get("type")) && "YouTube".equals(video.get("site"))) {
-                        trailerUrl = "https://www.youtube.com/watch?v=" + video.get("key");
-                        break;
-                    }
-                }
-            }
-
-            return new Movie(
-                    null,
-                    String.valueOf(data.get("id")),
-                    (String) data.get("title"),
-                    releaseDate,
-                    ((Number) data.getOrDefault("vote_average", 0)).doubleValue(),
-                    data.get("genre_ids") != null ? data.get("genre_ids").toString() : "[]",
-                    (String) data.getOrDefault("overview", ""),
-                    "https://image.tmdb.org/t/p/w500" + data.getOrDefault("poster_path", ""),
-                    "https://image.tmdb.org/t/p/w500" + data.getOrDefault("backdrop_path", ""),
-                    ((Number) data.getOrDefault("popularity", 0)).doubleValue(),
-                    ((Number) data.getOrDefault("vote_count", 0)).intValue(),
-                    trailerUrl,  // ✅ 예고편 URL 추가
-                    LocalDateTime.now()
-            );
-        } catch (Exception e) {
-            log.error("❌ Error mapping movie data: {}", e.getMessage());
-            return null;
-        }
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void decayMoviePopularityScores() {
+        log.info("🔥 Decreasing movie view counts in Redis...");
+        Long removed = redisTemplate.execute(DECAY_POPULARITY_SCRIPT, List.of(POPULAR_MOVIE_KEY),
+                popularityDecayFactor, popularityMinScore, popularityMaxSize);
+        log.info("✅ View counts decreased successfully! (제거된 영화: {})", removed);
     }
 
     /**
      * 🔹 인기 영화와 일반 영화 리스트 합치기
      */
-    private List<MovieProjection> mergeMovieLists(List<MovieProjection> popularMovies, List<MovieProjection> normalMovies) {
+    List<MovieProjection> mergeMovieLists(List<MovieProjection> popularMovies, List<MovieProjection> normalMovies) {
+        Set<Long> seenIds = new HashSet<>();
         return Stream.concat(popularMovies.stream(), normalMovies.stream())
-                .distinct()
+                .filter(movie -> seenIds.add(movie.getId())) // 캐시 객체와 JPA 프록시가 섞여 있으므로 ID 기준 중복 제거
                 .limit(10)
                 .collect(Collectors.toList());
     }
@@ -234,61 +319,12 @@ public class MovieService {
     영화 상세 정보
      */
     public Optional<Movie> getMovieDetails(Long movieId) {
-        Optional<Movie> movie = movieRepository.findById(movieId);
-        if (movie.isPresent()) {
-            return movie;
-        }
-
-        // TMDB API에서 상세 정보 가져오기
-        try {
-            String url = "https://api.themoviedb.org/3/movie/" + movieId + "?api_key=" + tmdbApiKey + "&append_to_response=videos";
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            Map<String, Object> data = response.getBody();
-
-            if (data == null || data.isEmpty()) {
-                log.warn("⚠️ TMDB에서 영화 정보를 가져오지 못함 (ID: {})", movieId);
-                return Optional.empty();
-            }
-
-            // ✅ 예고편 URL 가져오기
-            String trailerUrl = "";
-            Map<String, Object> videos = (Map<String, Object>) data.get("videos");
-            if (videos != null) {
-                var results = (List<Map<String, Object>>) videos.get("results");
-                for (Map<String, Object> video : results) {
-                    if ("Trailer".equals(video.get("type")) && "YouTube".equals(video.get("site"))) {
-                        trailerUrl = "https://www.youtube.com/watch?v=" + video.get("key");
-                        break;
-                    }
-                }
-            }
-
-            // ✅ `trailerUrl`을 포함하여 `Movie` 객체 생성
-            Movie fetchedMovie = new Movie(
-                    null,
-                    String.valueOf(data.get("id")),
-                    (String) data.get("title"),
-                    null,
-                    ((Number) data.getOrDefault("vote_average", 0)).doubleValue(),
-                    data.get("genres") != null ? data.get("genres").toString() : "[]",
-                    (String) data.getOrDefault("overview", ""),
-                    "https://image.tmdb.org/t/p/w500" + data.getOrDefault("poster_path", ""),
-                    "https://image.tmdb.org/t/p/w500" + data.getOrDefault("backdrop_path", ""),
-                    ((Number) data.getOrDefault("popularity", 0)).doubleValue(),
-                    ((Number) data.getOrDefault("vote_count", 0)).intValue(),
-                    trailerUrl,  // ✅ 예고편 URL 추가
-                    LocalDateTime.now()
-            );
-
-            return Optional.of(fetchedMovie);
-        } catch (Exception e) {
-            log.error("❌ 영화 상세 정보를 가져오는 중 오류 발생: {}", e.getMessage());
-            return Optional.empty();
-        }
+        return movieDetailCache.get(movieId);
     }
 
     /**
-     * 🎬 TMDB API 및 DB 기반 검색 (No-Offset 적용)
+     * 🎬 로컬 검색 인덱스 및 TMDB API 기반 검색 (No-Offset 적용)
+     * - 로컬 인덱스 결과가 부족할 때만 TMDB 검색으로 대체
      */
     public List<MovieProjection> searchMovies(String query, String type, Long lastId) {
         // 1️⃣ Query가 없으면 로컬 DB에서 영화 검색 (No-Offset 방식)
@@ -296,58 +332,32 @@ public class MovieService {
             return movieRepository.findTop10ProjectionByIdGreaterThanOrderByIdAsc(lastId);
         }
 
-        // 2️⃣ TMDB API 요청 URL 생성 및 호출
-        String url = buildTmdbSearchUrl(type, query);
-        ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-        Map<String, Object> data = response.getBody();
-
-        if (data == null || !data.containsKey("results")) {
-            log.warn("⚠️ TMDB API에서 검색 결과를 가져오지 못함.");
-            return List.of();
+        // 2️⃣ 로컬 검색 인덱스 (영화 검색일 때, 다음 페이지 조회는 항상 로컬 → 모르는 커서는 빈 목록)
+        if ("movie".equals(TmdbClient.normalizeSearchType(type))) {
+            List<MovieProjection> localResults = movieSearchIndex.search(query, lastId);
+            if (localResults.size() >= minLocalSearchHits || lastId > 0) {
+                return localResults;
+            }
         }
 
-        // 3️⃣ 결과 매핑 및 반환 (최대 10개)
-        return ((List<Map<String, Object>>) data.get("results")).stream()
-                .map(this::mapToMovieProjection)
-                .limit(10)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * ✅ TMDB 검색 URL 생성 (검색 유형에 따른 URL 매핑)
-     */
-    private String buildTmdbSearchUrl(String type, String query) {
-        List<String> validTypes = List.of("movie", "person", "keyword", "collection");
-        String searchType = validTypes.contains(type) ? type : "movie";
-
-        return String.format("%s%s?api_key=%s&query=%s&include_adult=false&language=en-US&page=1",
-                TMDB_SEARCH_URL, searchType, tmdbApiKey, query);
+        // 3️⃣ 검색 캐시 확인 (미스 시 TMDB API 호출)
+        return movieSearchCache.get(type, query, 1, () -> searchTmdb(type, query, 1));
     }
 
     /**
-     * 🎯 TMDB API 응답을 MovieProjection으로 변환
+     * 🌐 TMDB 검색 결과 조회 (최대 10개)
      */
-    private MovieProjection mapToMovieProjection(Map<String, Object> data) {
-        return new MovieProjection() {
-            @Override
-            public Long getId() {
-                return Optional.ofNullable(data.get("id")).map(String::valueOf).map(Long::parseLong).orElse(null);
-            }
-
-            @Override
-            public String getTitle() {
-                return Optional.ofNullable((String) data.get("title")).orElse((String) data.getOrDefault("name", "Unknown"));
-            }
+    private List<MovieSummaryDto> searchTmdb(String type, String query, int page) {
+        TmdbPage<TmdbSearchResult> data = tmdbClient.search(type, query, page).join();
 
-            @Override
-            public String getPosterUrl() {
-                return "https://image.tmdb.org/t/p/w500" + Optional.ofNullable((String) data.get("poster_path")).orElse("");
-            }
+        if (data == null) {
+            log.warn("⚠️ TMDB API에서 검색 결과를 가져오지 못함.");
+            return List.of();
+        }
 
-            @Override
-            public Double getPopularity() {
-                return Optional.ofNullable(data.get("popularity")).map(val -> ((Number) val).doubleValue()).orElse(0.0);
-            }
-        };
+        return data.results().stream()
+                .limit(10)
+                .map(TmdbMovieMapper::toSummary)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,87 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbGenre;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbMovie;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbSearchResult;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbVideos;
+import com.moviediary.backend.movie.domain.Genre;
+import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 🔹 TMDB 응답 레코드 → Movie / MovieSummaryDto 변환
+ */
+final class TmdbMovieMapper {
+    private static final String IMAGE_BASE_URL = "https://image.tmdb.org/t/p/w500";
+    private static final String YOUTUBE_WATCH_URL = "https://www.youtube.com/watch?v=";
+
+    private TmdbMovieMapper() {
+    }
+
+    static Movie toMovie(TmdbMovie data) {
+        String releaseDate = data.releaseDate();
+        List<Integer> genreIds = genreIds(data);
+
+        return new Movie(
+                null,
+                String.valueOf(data.id()),
+                data.title(),
+                releaseDate != null && !releaseDate.isEmpty() ? LocalDate.parse(releaseDate) : null,
+                data.voteAverage(),
+                genreIds.toString(),
+                Genre.maskOf(genreIds),
+                data.overview() != null ? data.overview() : "",
+                imageUrl(data.posterPath()),
+                imageUrl(data.backdropPath()),
+                data.popularity(),
+                data.voteCount(),
+                trailerUrl(data.videos()),  // ✅ 예고편 URL 추가
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 🎯 검색 결과 → 목록용 요약 (movie 외 유형은 name 사용)
+     */
+    static MovieSummaryDto toSummary(TmdbSearchResult data) {
+        String title = data.title() != null ? data.title() : data.name() != null ? data.name() : "Unknown";
+        return new MovieSummaryDto(data.id(), title, imageUrl(data.posterPath()), data.popularity());
+    }
+
+    /**
+     * 장르 ID 목록 (목록 응답은 genre_ids, 상세 응답은 genres 의 id), 문자열로는 "[28, 12]" 형식
+     */
+    private static List<Integer> genreIds(TmdbMovie data) {
+        if (data.genreIds() != null) {
+            return data.genreIds();
+        }
+        List<TmdbGenre> genres = data.genres();
+        if (genres == null) {
+            return List.of();
+        }
+        return genres.stream().map(TmdbGenre::id).toList();
+    }
+
+    private static String imageUrl(String path) {
+        return path != null ? IMAGE_BASE_URL + path : IMAGE_BASE_URL;
+    }
+
+    /**
+     * ✅ 예고편 URL 가져오기 (YouTube 트레일러 우선, 없으면 빈 문자열)
+     */
+    private static String trailerUrl(TmdbVideos videos) {
+        if (videos == null || videos.results() == null) {
+            return "";
+        }
+        for (TmdbVideos.TmdbVideo video : videos.results()) {
+            if ("Trailer".equals(video.type()) && "YouTube".equals(video.site())) {
+                return YOUTUBE_WATCH_URL + video.key();
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,62 @@
+package com.moviediary.backend.movie.dao;
+
+import com.moviediary.backend.movie.domain.Movie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 🚚 영화 대량 저장 (JDBC 배치 + tmdb_id 기준 upsert)
+ * - IDENTITY 전략 때문에 JPA saveAll 은 행마다 INSERT 를 보내므로 수집 경로는 이 저장소를 사용
+ * - rewriteBatchedStatements=true 와 함께 사용하면 배치가 다중 행 INSERT 로 합쳐짐
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieBulkRepository {
+    static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = "INSERT INTO movie (tmdb_id, title, release_date, rating, genre, genre_mask, overview, "
+            + "poster_url, backdrop_url, popularity, vote_count, trailer_url, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE title = VALUES(title), rating = VALUES(rating), "
+            + "popularity = VALUES(popularity), vote_count = VALUES(vote_count), "
+            + "genre = VALUES(genre), genre_mask = VALUES(genre_mask)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 영화 일괄 upsert (이미 있는 tmdb_id 는 제목/평점/인기도/투표수/장르만 갱신)
+     * - 반환값은 MySQL 영향받은 행 수 합계 (신규 1, 갱신 2, 변경 없음 0)
+     * - 드라이버가 행별 결과를 주지 않으면(SUCCESS_NO_INFO, 다중 행 INSERT 재작성 시) 그 행은 1로 계산
+     */
+    public int upsertAll(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, movies, BATCH_SIZE, (ps, movie) -> {
+            ps.setString(1, movie.getTmdbId());
+            ps.setString(2, movie.getTitle());
+            ps.setObject(3, movie.getReleaseDate());
+            ps.setObject(4, movie.getRating());
+            ps.setString(5, movie.getGenre());
+            ps.setLong(6, movie.getGenreMask());
+            ps.setString(7, movie.getOverview());
+            ps.setString(8, movie.getPosterUrl());
+            ps.setString(9, movie.getBackdropUrl());
+            ps.setObject(10, movie.getPopularity());
+            ps.setObject(11, movie.getVoteCount());
+            ps.setString(12, movie.getTrailerUrl());
+            ps.setObject(13, movie.getCreatedAt());
+        });
+        int affected = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                affected += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return affected;
+    }
+}
@@ -1,12 +1,14 @@
 package com.moviediary.backend.movie.dao;
 
 import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieGenreProjection;
 import com.moviediary.backend.movie.dto.MovieProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
@@ -17,17 +19,34 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     List<MovieProjection> findTop10ProjectionByIdGreaterThanOrderByIdAsc(Long lastId);
 
     // 인기 영화 조회 (Projection 사용)
-    @Query("SELECT m.id AS id, m.title AS title, m.posterUrl, m.popularity AS popularity FROM Movie m ORDER BY m.popularity DESC LIMIT 10")
+    @Query("SELECT m.id AS id, m.title AS title, m.posterUrl AS posterUrl, m.popularity AS popularity FROM Movie m ORDER BY m.popularity DESC LIMIT 10")
     List<MovieProjection> findTop10PopularMovies();
 
     // ✅ 특정 ID 리스트에 해당하는 MovieProjection 조회
-    @Query("SELECT m.id AS id, m.title AS title, m.posterUrl, m.popularity AS popularity FROM Movie m WHERE m.id IN :ids")
+    @Query("SELECT m.id AS id, m.title AS title, m.posterUrl AS posterUrl, m.popularity AS popularity FROM Movie m WHERE m.id IN :ids")
     List<MovieProjection> findProjectionsByIdIn(List<Long> ids);
 
+    // ✅ No-Offset 방식 대량 조회 (검색 인덱스 적재용)
+    List<Movie> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
     // ✅ 특정 ID 리스트에 해당하는 Movie 엔티티 조회
     List<Movie> findAllByIdIn(List<Long> ids);
 
+    // ✅ 특정 TMDB ID 리스트에 해당하는 Movie 엔티티 조회 (대량 저장 후 ID 확인용)
+    List<Movie> findAllByTmdbIdIn(List<String> tmdbIds);
+
+    // ✅ TMDB ID로 영화 조회 (TMDB에서 가져와 저장된 영화)
+    Optional<Movie> findByTmdbId(String tmdbId);
+
     // ✅ 이미 저장된 TMDB ID 조회 (중복 저장 방지)
     @Query("SELECT m.tmdbId FROM Movie m WHERE m.tmdbId IN :tmdbIds")
     List<String> findTmdbIdsByTmdbIdIn(List<String> tmdbIds);
+
+    // ✅ 장르 인덱스 적재용 (id, genre_mask) No-Offset 배치 조회
+    @Query("SELECT m.id AS id, m.genreMask AS genreMask FROM Movie m WHERE m.id > :lastId ORDER BY m.id ASC LIMIT 10000")
+    List<MovieGenreProjection> findGenreMasksAfter(Long lastId);
+
+    // ✅ 저장된 전체 TMDB ID 조회 (카탈로그 수집 중복 제거용)
+    @Query("SELECT m.tmdbId FROM Movie m")
+    List<String> findAllTmdbIds();
 }
@@ -0,0 +1,106 @@
+package com.moviediary.backend.movie.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 🎭 TMDB 영화 장르 (movie.genre_mask 비트 위치 고정)
+ * - 비트 위치는 DB 에 저장되므로 절대 바꾸지 않고, 새 장르는 다음 비트에 추가
+ */
+public enum Genre {
+    ACTION(28, 0, "액션"),
+    ADVENTURE(12, 1, "모험"),
+    ANIMATION(16, 2, "애니메이션"),
+    COMEDY(35, 3, "코미디"),
+    CRIME(80, 4, "범죄"),
+    DOCUMENTARY(99, 5, "다큐멘터리"),
+    DRAMA(18, 6, "드라마"),
+    FAMILY(10751, 7, "가족"),
+    FANTASY(14, 8, "판타지"),
+    HISTORY(36, 9, "역사"),
+    HORROR(27, 10, "공포"),
+    MUSIC(10402, 11, "음악"),
+    MYSTERY(9648, 12, "미스터리"),
+    ROMANCE(10749, 13, "로맨스"),
+    SCIENCE_FICTION(878, 14, "SF"),
+    TV_MOVIE(10770, 15, "TV 영화"),
+    THRILLER(53, 16, "스릴러"),
+    WAR(10752, 17, "전쟁"),
+    WESTERN(37, 18, "서부");
+
+    private static final Genre[] BY_BIT = new Genre[Long.SIZE];
+
+    static {
+        for (Genre genre : values()) {
+            BY_BIT[genre.bit] = genre;
+        }
+    }
+
+    private final int tmdbId;
+    private final int bit;
+    private final String koreanName;
+
+    Genre(int tmdbId, int bit, String koreanName) {
+        this.tmdbId = tmdbId;
+        this.bit = bit;
+        this.koreanName = koreanName;
+    }
+
+    public int getTmdbId() {
+        return tmdbId;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public String getKoreanName() {
+        return koreanName;
+    }
+
+    /**
+     * 검색 색인용 장르 이름 (영문 + 한글, 예: "science fiction SF")
+     */
+    public String searchTerms() {
+        return name().replace('_', ' ') + " " + koreanName;
+    }
+
+    public long mask() {
+        return 1L << bit;
+    }
+
+    public static Optional<Genre> fromTmdbId(int tmdbId) {
+        for (Genre genre : values()) {
+            if (genre.tmdbId == tmdbId) {
+                return Optional.of(genre);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * TMDB 장르 ID 목록 → 비트마스크 (모르는 ID 는 무시)
+     */
+    public static long maskOf(Collection<Integer> tmdbIds) {
+        long mask = 0;
+        for (Integer tmdbId : tmdbIds) {
+            if (tmdbId != null) {
+                mask |= fromTmdbId(tmdbId).map(Genre::mask).orElse(0L);
+            }
+        }
+        return mask;
+    }
+
+    public static List<Genre> fromMask(long mask) {
+        List<Genre> genres = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            Genre genre = BY_BIT[Long.numberOfTrailingZeros(remaining)];
+            if (genre != null) {
+                genres.add(genre);
+            }
+        }
+        return genres;
+    }
+}
@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "movie")
+@Table(name = "movie", indexes = {
+        @Index(name = "idx_movie_popularity", columnList = "popularity")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,6 +34,10 @@ public class Movie {
 
     private String genre;
 
+    // 🎭 장르 비트마스크 (Genre.getBit() 위치, 장르 필터링용)
+    @Column(nullable = false)
+    private long genreMask;
+
     @Column(columnDefinition = "TEXT")
     private String overview;
 
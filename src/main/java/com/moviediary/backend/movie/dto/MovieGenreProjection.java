@@ -0,0 +1,9 @@
+package com.moviediary.backend.movie.dto;
+
+/**
+ * 장르 인덱스 적재용 (영화 ID, 장르 비트마스크)
+ */
+public interface MovieGenreProjection {
+    Long getId();
+    long getGenreMask();
+}
@@ -0,0 +1,24 @@
+package com.moviediary.backend.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 🎬 캐시 저장용 영화 요약 정보 (MovieProjection 구현체)
+ * - JPA 프록시 대신 직렬화 가능한 값 객체로 Redis/메모리에 보관
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieSummaryDto implements MovieProjection {
+    private Long id;
+    private String title;
+    private String posterUrl;
+    private Double popularity;
+
+    public static MovieSummaryDto from(MovieProjection projection) {
+        return new MovieSummaryDto(projection.getId(), projection.getTitle(),
+                projection.getPosterUrl(), projection.getPopularity());
+    }
+}
@@ -2,13 +2,13 @@ package com.moviediary.backend.moviehistory.api;
 
 import com.moviediary.backend.moviehistory.dto.MovieHistoryProjection;
 import com.moviediary.backend.moviehistory.application.MovieHistoryService;
+import com.moviediary.backend.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,73 +23,73 @@ public class MovieHistoryController {
     @Operation(summary = "사용자의 감상 기록 저장 (리뷰 & 평점 포함)")
     @PostMapping("/{movieId}")
     public ResponseEntity<Void> saveMovieHistory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long movieId,
             @RequestParam(required = false) String review,
             @RequestParam(required = false) Integer rating) {
 
-        if (userDetails == null) {
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        movieHistoryService.saveMovieHistory(movieId, review, rating);
+        movieHistoryService.saveMovieHistory(principal.getUserId(), movieId, review, rating);
         return ResponseEntity.ok().build();
     }
 
     @Operation(summary = "사용자의 감상 기록 조회 (No-Offset)")
     @GetMapping
     public ResponseEntity<List<MovieHistoryProjection>> getMovieHistory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam(defaultValue = "0") Long lastId) {
 
-        if (userDetails == null) {
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        return ResponseEntity.ok(movieHistoryService.getMovieHistory(movieHistoryService.getCurrentUser(), lastId));
+        return ResponseEntity.ok(movieHistoryService.getMovieHistory(principal.getUserId(), lastId));
     }
 
     @Operation(summary = "감상 기록 삭제")
     @DeleteMapping("/{movieId}")
     public ResponseEntity<Void> deleteMovieHistory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long movieId) {
 
-        if (userDetails == null) {
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        movieHistoryService.deleteMovieHistory(movieId);
+        movieHistoryService.deleteMovieHistory(principal.getUserId(), movieId);
         return ResponseEntity.ok().build();
     }
 
     @Operation(summary = "다시보기 (lastWatchedAt 업데이트)")
     @PatchMapping("/{movieId}/rewatch")
     public ResponseEntity<Void> rewatchMovie(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long movieId) {
 
-        if (userDetails == null) {
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        movieHistoryService.rewatchMovie(movieId);
+        movieHistoryService.rewatchMovie(principal.getUserId(), movieId);
         return ResponseEntity.ok().build();
     }
 
     @Operation(summary = "리뷰 및 평점 수정")
     @PatchMapping("/{movieId}/review")
     public ResponseEntity<Void> updateMovieReview(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long movieId,
             @RequestParam String review,
             @RequestParam Integer rating) {
 
-        if (userDetails == null) {
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        movieHistoryService.updateMovieReview(movieId, review, rating);
+        movieHistoryService.updateMovieReview(principal.getUserId(), movieId, review, rating);
         return ResponseEntity.ok().build();
     }
 }
@@ -1,106 +1,102 @@
 package com.moviediary.backend.moviehistory.application;
 
-import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.moviehistory.domain.MovieHistoryChangedEvent;
 import com.moviediary.backend.moviehistory.dto.MovieHistoryProjection;
 import com.moviediary.backend.moviehistory.dao.MovieHistoryRepository;
-import com.moviediary.backend.moviehistory.domain.MovieHistory;
-import com.moviediary.backend.movie.domain.Movie;
-import com.moviediary.backend.user.dao.UserRepository;
-import com.moviediary.backend.user.domain.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * 🎞️ 감상 기록 서비스
+ * - 사용자 ID 는 인증 토큰(UserPrincipal)에서 받고, 쓰기는 모두 SQL 한 문장으로 처리
+ * - 추천에 영향을 주는 변경은 MovieHistoryChangedEvent 로 알림 (커밋 후 처리)
+ */
 @Service
 @RequiredArgsConstructor
 public class MovieHistoryService {
-    private final MovieHistoryRepository movieHistoryRepository;
-    private final MovieRepository movieRepository;
-    private final UserRepository userRepository;
-
-    /**
-     * 현재 로그인한 사용자 정보 가져오기
-     */
-    public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new IllegalStateException("인증되지 않은 사용자입니다.");
-        }
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
 
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-    }
+    private final MovieHistoryRepository movieHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 감상 기록 저장 (리뷰 & 평점 포함)
+     * - 중복 여부는 (user_id, movie_id) 유니크 제약이 판단하므로 동시 요청에도 한 건만 저장
+     * - 중복 키(1062)는 "이미 감상", 사용자 외래 키 위반(1452, 탈퇴 후 남은 토큰 등)은 "사용자 없음", 그 밖의 오류는 그대로 전파
      */
     @Transactional
-    public void saveMovieHistory(Long movieId, String review, Integer rating) {
-        User user = getCurrentUser();
-
-        Optional<MovieHistory> history = movieHistoryRepository.findByUserIdAndMovieId(user.getId(), movieId);
-        if (history.isPresent()) {
-            throw new IllegalStateException("이미 감상한 영화입니다.");
+    public void saveMovieHistory(Long userId, Long movieId, String review, Integer rating) {
+        int inserted;
+        try {
+            inserted = movieHistoryRepository.insertIfMovieExists(userId, movieId, LocalDateTime.now(), review, rating);
+        } catch (DataIntegrityViolationException e) {
+            int errorCode = mysqlErrorCode(e);
+            if (errorCode == MYSQL_DUPLICATE_ENTRY) {
+                throw new IllegalStateException("이미 감상한 영화입니다.");
+            }
+            if (errorCode == MYSQL_NO_REFERENCED_ROW) {
+                throw new IllegalArgumentException("사용자가 존재하지 않습니다.");
+            }
+            throw e;
         }
-
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new IllegalArgumentException("영화가 존재하지 않습니다."));
-
-        MovieHistory newHistory = MovieHistory.builder()
-                .user(user)
-                .movie(movie)
-                .watchedAt(LocalDateTime.now())
-                .lastWatchedAt(LocalDateTime.now())
-                .review(review)
-                .rating(rating)
-                .build();
-
-        movieHistoryRepository.save(newHistory);
+        if (inserted == 0) {
+            throw new IllegalArgumentException("영화가 존재하지 않습니다.");
+        }
+        eventPublisher.publishEvent(new MovieHistoryChangedEvent(userId, movieId));
     }
 
     /**
      * 사용자의 감상 기록 조회 (No-Offset)
      */
-    public List<MovieHistoryProjection> getMovieHistory(User user, Long lastId) {
-        return movieHistoryRepository.findMovieHistoryByUserId(user.getId(), lastId);
+    public List<MovieHistoryProjection> getMovieHistory(Long userId, Long lastId) {
+        return movieHistoryRepository.findMovieHistoryByUserId(userId, lastId);
     }
 
     /**
      * 감상 기록 삭제
      */
     @Transactional
-    public void deleteMovieHistory(Long movieId) {
-        User user = getCurrentUser();
-        movieHistoryRepository.deleteByUserIdAndMovieId(user.getId(), movieId);
+    public void deleteMovieHistory(Long userId, Long movieId) {
+        if (movieHistoryRepository.deleteByUserIdAndMovieId(userId, movieId) > 0) {
+            eventPublisher.publishEvent(new MovieHistoryChangedEvent(userId, movieId));
+        }
     }
 
     /**
      * 다시보기 기능 (lastWatchedAt 업데이트)
      */
     @Transactional
-    public void rewatchMovie(Long movieId) {
-        User user = getCurrentUser();
-        MovieHistory history = movieHistoryRepository.findByUserIdAndMovieId(user.getId(), movieId)
-                .orElseThrow(() -> new IllegalArgumentException("감상 기록이 없습니다."));
-        history.setLastWatchedAt(LocalDateTime.now());
+    public void rewatchMovie(Long userId, Long movieId) {
+        if (movieHistoryRepository.updateLastWatchedAt(userId, movieId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("감상 기록이 없습니다.");
+        }
     }
 
     /**
      * 감상 기록 수정 (리뷰 및 평점 업데이트)
      */
     @Transactional
-    public void updateMovieReview(Long movieId, String review, Integer rating) {
-        User user = getCurrentUser();
-        MovieHistory history = movieHistoryRepository.findByUserIdAndMovieId(user.getId(), movieId)
-                .orElseThrow(() -> new IllegalArgumentException("감상 기록이 없습니다."));
-        history.setReview(review);
-        history.setRating(rating);
+    public void updateMovieReview(Long userId, Long movieId, String review, Integer rating) {
+        if (movieHistoryRepository.updateReview(userId, movieId, review, rating) == 0) {
+            throw new IllegalArgumentException("감상 기록이 없습니다.");
+        }
+        eventPublisher.publishEvent(new MovieHistoryChangedEvent(userId, movieId));
+    }
+
+    private static int mysqlErrorCode(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException.getErrorCode();
+            }
+        }
+        return -1;
     }
 }
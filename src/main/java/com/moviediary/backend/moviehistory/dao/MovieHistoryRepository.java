@@ -3,10 +3,13 @@ package com.moviediary.backend.moviehistory.dao;
 import com.moviediary.backend.moviehistory.domain.MovieHistory;
 import com.moviediary.backend.movie.dto.MovieProjection;
 import com.moviediary.backend.moviehistory.dto.MovieHistoryProjection;
+import com.moviediary.backend.moviehistory.dto.MovieHistorySignal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +23,40 @@ public interface MovieHistoryRepository extends JpaRepository<MovieHistory, Long
             "ORDER BY mh.id ASC LIMIT 10")
     List<MovieHistoryProjection> findMovieHistoryByUserId(Long userId, Long lastId);
 
+    // 추천 계산용 감상 기록 No-Offset 배치 조회
+    @Query("SELECT mh.id AS id, mh.user.id AS userId, mh.movie.id AS movieId, mh.rating AS rating " +
+            "FROM MovieHistory mh WHERE mh.id > :lastId ORDER BY mh.id ASC LIMIT 5000")
+    List<MovieHistorySignal> findSignalsAfter(Long lastId);
+
+    // 추천 증분 갱신용 사용자 감상 기록
+    @Query("SELECT mh.id AS id, mh.user.id AS userId, mh.movie.id AS movieId, mh.rating AS rating " +
+            "FROM MovieHistory mh WHERE mh.user.id = :userId ORDER BY mh.id ASC")
+    List<MovieHistorySignal> findSignalsByUserId(Long userId);
+
     // 특정 영화 감상 기록 존재 여부
     Optional<MovieHistory> findByUserIdAndMovieId(Long userId, Long movieId);
 
-    // 특정 영화 감상 기록 삭제
-    void deleteByUserIdAndMovieId(Long userId, Long movieId);
+    // 감상 기록 추가 (한 문장: 영화가 없으면 0건, 중복은 (user_id, movie_id) 유니크 제약 위반 예외)
+    @Modifying
+    @Query(value = "INSERT INTO movie_history (user_id, movie_id, watched_at, last_watched_at, review, rating) " +
+            "SELECT :userId, m.id, :watchedAt, :watchedAt, :review, :rating FROM movie m WHERE m.id = :movieId",
+            nativeQuery = true)
+    int insertIfMovieExists(Long userId, Long movieId, LocalDateTime watchedAt, String review, Integer rating);
+
+    // 다시보기 시각 갱신 (대상 기록이 없으면 0)
+    @Modifying
+    @Query("UPDATE MovieHistory mh SET mh.lastWatchedAt = :lastWatchedAt " +
+            "WHERE mh.user.id = :userId AND mh.movie.id = :movieId")
+    int updateLastWatchedAt(Long userId, Long movieId, LocalDateTime lastWatchedAt);
+
+    // 리뷰 및 평점 갱신 (대상 기록이 없으면 0)
+    @Modifying
+    @Query("UPDATE MovieHistory mh SET mh.review = :review, mh.rating = :rating " +
+            "WHERE mh.user.id = :userId AND mh.movie.id = :movieId")
+    int updateReview(Long userId, Long movieId, String review, Integer rating);
+
+    // 특정 영화 감상 기록 삭제 (엔티티 조회 없이 DELETE 한 문장)
+    @Modifying
+    @Query("DELETE FROM MovieHistory mh WHERE mh.user.id = :userId AND mh.movie.id = :movieId")
+    int deleteByUserIdAndMovieId(Long userId, Long movieId);
 }
@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "movie_history", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"user_id", "movie_id"})
+        @UniqueConstraint(name = "uk_movie_history_user_movie", columnNames = {"user_id", "movie_id"})
+}, indexes = {
+        @Index(name = "idx_movie_history_user_id_id", columnList = "user_id, id") // No-Offset 페이지용
 })
 @Getter
 @Setter
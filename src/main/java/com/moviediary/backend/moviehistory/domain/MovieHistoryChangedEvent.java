@@ -0,0 +1,7 @@
+package com.moviediary.backend.moviehistory.domain;
+
+/**
+ * 📨 감상 기록 저장 / 수정 / 삭제 이벤트 (커밋 후 추천 갱신에 사용)
+ */
+public record MovieHistoryChangedEvent(Long userId, Long movieId) {
+}
@@ -0,0 +1,11 @@
+package com.moviediary.backend.moviehistory.dto;
+
+/**
+ * 추천 계산용 감상 기록 (사용자, 영화, 평점)
+ */
+public interface MovieHistorySignal {
+    Long getId();
+    Long getUserId();
+    Long getMovieId();
+    Integer getRating();
+}
@@ -0,0 +1,36 @@
+package com.moviediary.backend.recommendation.api;
+
+import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.recommendation.application.RecommendationService;
+import com.moviediary.backend.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recommendations")
+@RequiredArgsConstructor
+@Tag(name = "Recommendation API", description = "개인화 추천 관련 API")
+public class RecommendationController {
+    private final RecommendationService recommendationService;
+
+    @Operation(summary = "사용자 맞춤 추천 영화 조회 (추천 결과가 없으면 인기 영화)")
+    @GetMapping
+    public ResponseEntity<List<MovieProjection>> getRecommendations(
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(recommendationService.getRecommendations(principal.getUserId()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.moviediary.backend.recommendation.api;
+
+import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.recommendation.application.SimilarMovieService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/movies")
+@RequiredArgsConstructor
+@Tag(name = "Recommendation API", description = "개인화 추천 관련 API")
+public class SimilarMovieController {
+    private final SimilarMovieService similarMovieService;
+
+    @Operation(
+            summary = "비슷한 영화 조회",
+            description = "장르, 평점, 인기도가 비슷하고 함께 많이 감상된 영화를 반환합니다.\n\n"
+                    + "- 색인되지 않은 영화는 빈 목록을 반환합니다."
+    )
+    @GetMapping("/{movieId}/similar")
+    public ResponseEntity<List<MovieProjection>> getSimilarMovies(
+            @Parameter(description = "기준 영화 ID", example = "550") @PathVariable Long movieId,
+            @Parameter(description = "최대 개수 (기본값: 10, 최대 50)", example = "10")
+            @RequestParam(required = false, defaultValue = "10") int size) {
+        return ResponseEntity.ok(similarMovieService.getSimilarMovies(movieId, Math.min(Math.max(size, 1), 50)));
+    }
+}
@@ -0,0 +1,286 @@
+package com.moviediary.backend.recommendation.application;
+
+import com.moviediary.backend.global.common.LongFloatHashMap;
+import com.moviediary.backend.global.common.TopK;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🧮 영화-영화 코사인 유사도 모델 (사용자 선호 벡터 기반 Item-Item 협업 필터링)
+ * - 사용자 벡터와 그 전치(영화 → 사용자) 벡터, 영화별 노름을 함께 보관해 사용자 단위 증분 갱신 지원
+ * - 영화마다 유사도 상위 K개 이웃만 원시 배열로 보관
+ * - 추천 점수 = Σ (사용자의 영화 i 선호도 × sim(i, j)), 이미 본 영화는 제외
+ * - 스레드 안전하지 않음 (RecommendationEngine 이 동기화), 단 neighborView() 는 락 없이 읽기 가능
+ */
+class ItemSimilarityModel {
+    private static final Neighbors NO_NEIGHBORS = new Neighbors(new long[0], new float[0]);
+
+    private final int neighborsPerMovie;
+    private final Map<Long, LongFloatHashMap> userVectors;
+    private final Map<Long, LongFloatHashMap> movieVectors;
+    private final LongFloatHashMap norms;
+    private final Map<Long, Neighbors> neighbors;
+
+    private ItemSimilarityModel(int neighborsPerMovie, Map<Long, LongFloatHashMap> userVectors) {
+        this.neighborsPerMovie = neighborsPerMovie;
+        this.userVectors = userVectors;
+        this.movieVectors = new HashMap<>();
+        userVectors.forEach((userId, movies) -> movies.forEach((movieId, weight) ->
+                movieVectors.computeIfAbsent(movieId, id -> new LongFloatHashMap()).put(userId, weight)));
+        this.norms = new LongFloatHashMap(movieVectors.size());
+        movieVectors.forEach((movieId, users) -> norms.put(movieId, norm(users)));
+        this.neighbors = new ConcurrentHashMap<>(movieVectors.size() * 2);
+    }
+
+    static ItemSimilarityModel empty(int neighborsPerMovie) {
+        return new ItemSimilarityModel(neighborsPerMovie, new HashMap<>());
+    }
+
+    /**
+     * 사용자 벡터(사용자 → (영화 → 선호도))로 모델 생성
+     */
+    static ItemSimilarityModel build(Map<Long, LongFloatHashMap> userVectors, int neighborsPerMovie) {
+        ItemSimilarityModel model = new ItemSimilarityModel(neighborsPerMovie, userVectors);
+        model.movieVectors.keySet().forEach(model::recomputeNeighbors);
+        return model;
+    }
+
+    /**
+     * 🔁 한 사용자의 벡터 교체 후 선호도가 바뀐 영화들의 이웃 재계산
+     * - 바뀐 영화와 함께 선호된 다른 영화의 목록은 새 유사도로 한 항목만 고치고,
+     *   상위 K개 밖의 영화가 앞설 수 있는 경우(목록이 가득 찬 상태에서 유사도 하락)만 전체 재계산
+     * - 결과는 같은 사용자 벡터로 build 한 모델과 동일
+     */
+    void updateUser(long userId, LongFloatHashMap vector) {
+        LongFloatHashMap previous = vector.isEmpty() ? userVectors.remove(userId) : userVectors.put(userId, vector);
+        Set<Long> changed = new HashSet<>();
+        if (previous != null) {
+            previous.forEach((movieId, weight) -> {
+                if (vector.get(movieId, 0f) != weight) {
+                    changed.add(movieId);
+                }
+            });
+        }
+        vector.forEach((movieId, weight) -> {
+            if (previous == null || previous.get(movieId, 0f) != weight) {
+                changed.add(movieId);
+            }
+        });
+
+        for (Long movieId : changed) {
+            LongFloatHashMap users = movieVectors.computeIfAbsent(movieId, id -> new LongFloatHashMap());
+            float weight = vector.get(movieId, 0f);
+            if (weight == 0f) {
+                users.remove(userId);
+            } else {
+                users.put(userId, weight);
+            }
+            if (users.isEmpty()) {
+                movieVectors.remove(movieId);
+                norms.remove(movieId);
+                neighbors.remove(movieId);
+            } else {
+                norms.put(movieId, norm(users));
+            }
+        }
+        for (Long movieId : changed) {
+            LongFloatHashMap similarities = movieVectors.containsKey(movieId)
+                    ? recomputeNeighbors(movieId)
+                    : new LongFloatHashMap();
+
+            // 유사도가 바뀔 수 있는 영화: 지금 함께 선호된 영화 + 이 사용자 때문에 함께 선호됐던 영화
+            Set<Long> affected = new HashSet<>();
+            similarities.forEach((otherId, similarity) -> affected.add(otherId));
+            if (previous != null) {
+                previous.forEach((otherId, weight) -> affected.add(otherId));
+            }
+            vector.forEach((otherId, weight) -> affected.add(otherId));
+            for (Long otherId : affected) {
+                if (!changed.contains(otherId) && movieVectors.containsKey(otherId)) {
+                    patchNeighbor(otherId, movieId, similarities.get(otherId, 0f));
+                }
+            }
+        }
+    }
+
+    /**
+     * movieId 의 이웃 목록에서 neighborId 의 유사도만 similarity 로 교체 (0 이하는 제거)
+     */
+    private void patchNeighbor(long movieId, long neighborId, float similarity) {
+        Neighbors current = neighbors.getOrDefault(movieId, NO_NEIGHBORS);
+        long[] ids = current.movieIds();
+        float[] scores = current.similarities();
+        boolean full = ids.length == neighborsPerMovie;
+
+        int position = -1;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == neighborId) {
+                position = i;
+                break;
+            }
+        }
+
+        if (position < 0) {
+            if (similarity <= 0 || (full && !ranksBefore(similarity, neighborId, scores[ids.length - 1], ids[ids.length - 1]))) {
+                return;
+            }
+        } else if (full && !ranksBefore(similarity, neighborId, scores[position], neighborId)) {
+            // 가득 찬 목록에서 순위가 내려가면 목록 밖 영화가 앞설 수 있음 (마지막 항목보다 앞에 남는 경우만 직접 수정)
+            int last = ids.length - 1;
+            if (similarity <= 0 || position == last || !ranksBefore(similarity, neighborId, scores[last], ids[last])) {
+                recomputeNeighbors(movieId);
+                return;
+            }
+        }
+
+        // neighborId 를 뺀 나머지에 (similarity, neighborId) 를 순서대로 삽입, 최대 K개
+        int size = ids.length - (position >= 0 ? 1 : 0) + (similarity > 0 ? 1 : 0);
+        size = Math.min(size, neighborsPerMovie);
+        long[] newIds = new long[size];
+        float[] newScores = new float[size];
+        boolean inserted = similarity <= 0;
+        int out = 0;
+        for (int i = 0; i < ids.length && out < size; i++) {
+            if (ids[i] == neighborId) {
+                continue;
+            }
+            if (!inserted && ranksBefore(similarity, neighborId, scores[i], ids[i])) {
+                newIds[out] = neighborId;
+                newScores[out++] = similarity;
+                inserted = true;
+                if (out == size) {
+                    break;
+                }
+            }
+            newIds[out] = ids[i];
+            newScores[out++] = scores[i];
+        }
+        if (!inserted && out < size) {
+            newIds[out] = neighborId;
+            newScores[out] = similarity;
+        }
+        neighbors.put(movieId, new Neighbors(newIds, newScores));
+    }
+
+    /**
+     * TopK 와 같은 순서 (유사도 내림차순, 같으면 ID 오름차순)
+     */
+    private static boolean ranksBefore(float similarity, long movieId, float otherSimilarity, long otherId) {
+        return similarity > otherSimilarity || (similarity == otherSimilarity && movieId < otherId);
+    }
+
+    /**
+     * 사용자 추천 영화 ID (점수 내림차순, 최대 size 개)
+     */
+    long[] recommend(long userId, int size) {
+        LongFloatHashMap userVector = userVectors.get(userId);
+        if (userVector == null) {
+            return new long[0];
+        }
+
+        LongFloatHashMap scores = new LongFloatHashMap();
+        userVector.forEach((movieId, preference) -> {
+            Neighbors similar = neighbors.getOrDefault(movieId, NO_NEIGHBORS);
+            for (int i = 0; i < similar.movieIds().length; i++) {
+                long candidate = similar.movieIds()[i];
+                if (!userVector.containsKey(candidate)) {
+                    scores.addTo(candidate, preference * similar.similarities()[i]);
+                }
+            }
+        });
+
+        TopK top = new TopK(size);
+        scores.forEach(top::offer);
+        return top.drainIds();
+    }
+
+    /**
+     * 영화의 이웃 (영화 ID → 유사도), 없으면 빈 맵
+     */
+    LongFloatHashMap neighborsOf(long movieId) {
+        return toMap(neighbors.getOrDefault(movieId, NO_NEIGHBORS));
+    }
+
+    private static LongFloatHashMap toMap(Neighbors similar) {
+        LongFloatHashMap result = new LongFloatHashMap(similar.movieIds().length);
+        for (int i = 0; i < similar.movieIds().length; i++) {
+            result.put(similar.movieIds()[i], similar.similarities()[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 이웃 목록 읽기 전용 뷰 (요청 경로에서 락 없이 읽기용, 복사 없음)
+     * - 이웃 목록은 ConcurrentHashMap 에 보관하고 Neighbors 배열은 수정 없이 통째로 교체하므로 항목 단위로 일관됨
+     */
+    NeighborView neighborView() {
+        return new NeighborView(neighbors);
+    }
+
+    Set<Long> userIds() {
+        return userVectors.keySet();
+    }
+
+    int movieCount() {
+        return movieVectors.size();
+    }
+
+    /**
+     * 이웃 목록 재계산, 유사도가 양수인 모든 영화의 유사도 반환
+     */
+    private LongFloatHashMap recomputeNeighbors(long movieId) {
+        // 같은 사용자가 함께 선호한 영화들과의 내적
+        LongFloatHashMap dots = new LongFloatHashMap();
+        movieVectors.get(movieId).forEach((userId, weight) -> userVectors.get(userId).forEach((otherId, otherWeight) -> {
+            if (otherId != movieId) {
+                dots.addTo(otherId, weight * otherWeight);
+            }
+        }));
+
+        float norm = norms.get(movieId, 0f);
+        LongFloatHashMap positive = new LongFloatHashMap(dots.size());
+        TopK top = new TopK(neighborsPerMovie);
+        dots.forEach((otherId, dot) -> {
+            float denominator = norm * norms.get(otherId, 0f);
+            if (denominator > 0 && dot > 0) {
+                float similarity = dot / denominator;
+                positive.put(otherId, similarity);
+                top.offer(otherId, similarity);
+            }
+        });
+
+        long[] movieIds = new long[top.size()];
+        float[] similarities = new float[top.size()];
+        top.drain(movieIds, similarities);
+        neighbors.put(movieId, new Neighbors(movieIds, similarities));
+        return positive;
+    }
+
+    private static float norm(LongFloatHashMap vector) {
+        double[] sum = {0};
+        vector.forEach((key, value) -> sum[0] += value * value);
+        return (float) Math.sqrt(sum[0]);
+    }
+
+    private record Neighbors(long[] movieIds, float[] similarities) {
+    }
+
+    /**
+     * 🤝 영화 ID → 이웃 목록 읽기 전용 뷰
+     */
+    static final class NeighborView {
+        private final Map<Long, Neighbors> neighbors;
+
+        private NeighborView(Map<Long, Neighbors> neighbors) {
+            this.neighbors = neighbors;
+        }
+
+        LongFloatHashMap neighborsOf(long movieId) {
+            return toMap(neighbors.getOrDefault(movieId, NO_NEIGHBORS));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.moviediary.backend.recommendation.application;
+
+import com.moviediary.backend.movie.domain.Genre;
+import com.moviediary.backend.movie.domain.Movie;
+
+/**
+ * 🧬 비슷한 영화 검색용 영화 특징 벡터
+ * - [장르 one-hot (Genre 비트 위치) | 평점(0~1) | 인기도(log 스케일, 0~1)]
+ * - 장르가 유사도를 주도하고 평점/인기도는 같은 장르 안에서 순서를 가르는 정도로 가중
+ */
+final class MovieFeatures {
+    private static final int GENRE_SLOTS = Genre.values().length;
+    private static final float RATING_WEIGHT = 0.5f;
+    private static final float POPULARITY_WEIGHT = 0.3f;
+    private static final double POPULARITY_SCALE = Math.log1p(1000);
+
+    static final int DIMENSION = GENRE_SLOTS + 2;
+
+    private MovieFeatures() {
+    }
+
+    static float[] of(Movie movie) {
+        float[] vector = new float[DIMENSION];
+        for (Genre genre : Genre.fromMask(movie.getGenreMask())) {
+            vector[genre.getBit()] = 1f;
+        }
+        double rating = movie.getRating() == null ? 0 : movie.getRating();
+        double popularity = movie.getPopularity() == null ? 0 : movie.getPopularity();
+        vector[GENRE_SLOTS] = RATING_WEIGHT * (float) Math.min(Math.max(rating, 0) / 10, 1);
+        vector[GENRE_SLOTS + 1] = POPULARITY_WEIGHT
+                * (float) Math.min(Math.log1p(Math.max(popularity, 0)) / POPULARITY_SCALE, 1);
+        return vector;
+    }
+}
@@ -0,0 +1,291 @@
+package com.moviediary.backend.recommendation.application;
+
+import com.moviediary.backend.favorite.dao.FavoriteRepository;
+import com.moviediary.backend.favorite.dto.FavoriteSignal;
+import com.moviediary.backend.global.common.LongFloatHashMap;
+import com.moviediary.backend.global.infra.RedisLockManager;
+import com.moviediary.backend.moviehistory.dao.MovieHistoryRepository;
+import com.moviediary.backend.moviehistory.dto.MovieHistorySignal;
+import com.moviediary.backend.recommendation.dao.RecommendationCacheRepository;
+import com.moviediary.backend.recommendation.domain.RecommendationCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🎯 개인화 추천 엔진 (감상 기록 평점 + 즐겨찾기 기반 Item-Item 유사도)
+ * - 사용자 선호 벡터는 long → float 맵으로 보관 (박싱 없음)
+ * - 모델은 모든 노드가 메모리에 만들고, 전체 추천 결과(RecommendationCache) 저장은 락을 잡은 노드만 수행
+ * - 주기적으로(기본 매일 04시) 전체 재계산, 그 사이에는 변경된 사용자만 증분 갱신 (RecommendationRefreshQueue)
+ */
+@Slf4j
+@Component
+public class RecommendationEngine {
+    private static final String REBUILD_LOCK_KEY = "recommendation:rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(30);
+    private static final int SIGNAL_BATCH_SIZE = 5000;
+    private static final int SAVE_BATCH_SIZE = 500;
+    private static final float FAVORITE_WEIGHT = 1.0f;
+    private static final float UNRATED_WEIGHT = 1.0f;
+
+    private final MovieHistoryRepository movieHistoryRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final RecommendationCacheRepository recommendationCacheRepository;
+    private final RedisLockManager redisLockManager;
+    private final int neighborsPerMovie;
+    private final int recommendationSize;
+    private final int maxMoviesPerUser;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ReentrantLock modelLock = new ReentrantLock();
+    private final Set<Long> refreshedDuringRebuild = new HashSet<>(); // modelLock 으로 보호
+    private ItemSimilarityModel model;
+    private boolean rebuilding; // modelLock 으로 보호
+    private volatile ItemSimilarityModel.NeighborView coWatch;
+
+    public RecommendationEngine(MovieHistoryRepository movieHistoryRepository,
+                                FavoriteRepository favoriteRepository,
+                                RecommendationCacheRepository recommendationCacheRepository,
+                                RedisLockManager redisLockManager,
+                                @Value("${recommendation.neighbors-per-movie:50}") int neighborsPerMovie,
+                                @Value("${recommendation.size:20}") int recommendationSize,
+                                @Value("${recommendation.max-movies-per-user:500}") int maxMoviesPerUser) {
+        this.movieHistoryRepository = movieHistoryRepository;
+        this.favoriteRepository = favoriteRepository;
+        this.recommendationCacheRepository = recommendationCacheRepository;
+        this.redisLockManager = redisLockManager;
+        this.neighborsPerMovie = neighborsPerMovie;
+        this.recommendationSize = recommendationSize;
+        this.maxMoviesPerUser = maxMoviesPerUser;
+        this.model = ItemSimilarityModel.empty(neighborsPerMovie);
+        this.coWatch = model.neighborView();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 🔄 전체 재계산 (신호 적재 → 새 모델에서 추천 계산 → 모델 교체 → 락을 잡은 노드만 추천 결과 저장)
+     * - 신호 적재 이후의 변경은 새 모델에 없으므로, 재계산 중 증분 갱신된 사용자는 기록해 두었다가 교체 후 다시 갱신
+     * - 저장 시 재계산 시작 이후 다른 노드가 갱신한 추천 결과는 덮어쓰지 않음
+     */
+    @Scheduled(cron = "${recommendation.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime rebuildStartedAt = LocalDateTime.now();
+            modelLock.lock();
+            try {
+                rebuilding = true;
+            } finally {
+                modelLock.unlock();
+            }
+
+            ItemSimilarityModel rebuilt = ItemSimilarityModel.build(loadUserVectors(), neighborsPerMovie);
+            List<RecommendationCache> recommendations = recommendAll(rebuilt, rebuilt.userIds());
+            modelLock.lock();
+            try {
+                model = rebuilt;
+                coWatch = rebuilt.neighborView();
+            } finally {
+                modelLock.unlock();
+            }
+            log.info("✅ 추천 모델 생성 완료 (사용자 {}명, 영화 {}개, {}ms)",
+                    recommendations.size(), rebuilt.movieCount(), System.currentTimeMillis() - startedAt);
+
+            Optional<String> token = redisLockManager.tryLock(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL);
+            if (token.isEmpty()) {
+                log.info("⏳ 다른 노드가 추천 결과 저장 중");
+                return;
+            }
+            try {
+                saveUnlessNewer(recommendations, rebuildStartedAt);
+            } finally {
+                redisLockManager.unlock(REBUILD_LOCK_KEY, token.get());
+            }
+        } catch (Exception e) {
+            log.error("❌ 추천 모델 생성 중 오류 발생: {}", e.getMessage());
+        } finally {
+            replayRefreshedDuringRebuild();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 🔁 일부 사용자만 증분 갱신 (DB 에서 사용자 벡터 재적재 → 바뀐 영화 이웃 재계산 → 추천 결과 저장)
+     */
+    public void refreshUsers(Collection<Long> userIds) {
+        Map<Long, LongFloatHashMap> vectors = new HashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            vectors.put(userId, loadUserVector(userId));
+        }
+
+        List<RecommendationCache> recommendations;
+        modelLock.lock();
+        try {
+            vectors.forEach(model::updateUser);
+            recommendations = recommendAll(model, userIds);
+            if (rebuilding) {
+                refreshedDuringRebuild.addAll(userIds);
+            }
+        } finally {
+            modelLock.unlock();
+        }
+        save(recommendations);
+    }
+
+    /**
+     * 재계산 중(교체 전후 모두) 증분 갱신된 사용자를 새 모델에 다시 반영하고 저장 (전체 저장보다 나중에 저장되도록 마지막에 실행)
+     */
+    private void replayRefreshedDuringRebuild() {
+        List<Long> userIds;
+        modelLock.lock();
+        try {
+            rebuilding = false;
+            userIds = new ArrayList<>(refreshedDuringRebuild);
+            refreshedDuringRebuild.clear();
+        } finally {
+            modelLock.unlock();
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            refreshUsers(userIds);
+            log.info("🔁 재계산 중 갱신된 사용자 {}명 다시 반영", userIds.size());
+        } catch (Exception e) {
+            log.error("❌ 재계산 중 갱신된 사용자 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 🤝 함께 본 영화 유사도 (영화 ID → 코사인 유사도, 상위 이웃만)
+     * - 모델 교체 시 게시되는 이웃 목록 뷰를 락 없이 읽으므로 증분 갱신 중에도 대기 없음
+     */
+    public LongFloatHashMap coWatchNeighbors(Long movieId) {
+        return coWatch.neighborsOf(movieId);
+    }
+
+    private List<RecommendationCache> recommendAll(ItemSimilarityModel target, Collection<Long> userIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RecommendationCache> result = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            long[] movieIds = target.recommend(userId, recommendationSize);
+            List<Long> recommended = new ArrayList<>(movieIds.length);
+            for (long movieId : movieIds) {
+                recommended.add(movieId);
+            }
+            result.add(new RecommendationCache(userId, recommended, now));
+        }
+        return result;
+    }
+
+    /**
+     * 전체 재계산 결과 저장 (cachedAt 이 재계산 시작보다 최신인 항목은 증분 갱신 결과이므로 유지)
+     */
+    private void saveUnlessNewer(List<RecommendationCache> recommendations, LocalDateTime rebuildStartedAt) {
+        int skipped = 0;
+        for (int from = 0; from < recommendations.size(); from += SAVE_BATCH_SIZE) {
+            List<RecommendationCache> batch =
+                    recommendations.subList(from, Math.min(from + SAVE_BATCH_SIZE, recommendations.size()));
+            Set<Long> newer = new HashSet<>();
+            for (RecommendationCache existing : recommendationCacheRepository.findAllById(
+                    batch.stream().map(RecommendationCache::getUserId).toList())) {
+                if (existing.getCachedAt() != null && existing.getCachedAt().isAfter(rebuildStartedAt)) {
+                    newer.add(existing.getUserId());
+                }
+            }
+            skipped += newer.size();
+            recommendationCacheRepository.saveAll(newer.isEmpty() ? batch
+                    : batch.stream().filter(cache -> !newer.contains(cache.getUserId())).toList());
+        }
+        log.info("💾 사용자 {}명의 추천 결과 저장 완료 (최신 결과 유지 {}명)", recommendations.size() - skipped, skipped);
+    }
+
+    private void save(List<RecommendationCache> recommendations) {
+        for (int from = 0; from < recommendations.size(); from += SAVE_BATCH_SIZE) {
+            recommendationCacheRepository.saveAll(
+                    recommendations.subList(from, Math.min(from + SAVE_BATCH_SIZE, recommendations.size())));
+        }
+        log.debug("💾 사용자 {}명의 추천 결과 저장 완료", recommendations.size());
+    }
+
+    /**
+     * 📥 감상 기록 / 즐겨찾기를 No-Offset 배치로 읽어 사용자 선호 벡터 생성
+     */
+    private Map<Long, LongFloatHashMap> loadUserVectors() {
+        Map<Long, LongFloatHashMap> userVectors = new HashMap<>();
+
+        long lastId = 0;
+        List<MovieHistorySignal> histories;
+        do {
+            histories = movieHistoryRepository.findSignalsAfter(lastId);
+            for (MovieHistorySignal history : histories) {
+                addSignal(userVectors.computeIfAbsent(history.getUserId(), id -> new LongFloatHashMap()),
+                        history.getMovieId(), historyWeight(history.getRating()));
+            }
+            if (!histories.isEmpty()) {
+                lastId = histories.get(histories.size() - 1).getId();
+            }
+        } while (histories.size() == SIGNAL_BATCH_SIZE);
+
+        lastId = 0;
+        List<FavoriteSignal> favorites;
+        do {
+            favorites = favoriteRepository.findSignalsAfter(lastId);
+            for (FavoriteSignal favorite : favorites) {
+                addSignal(userVectors.computeIfAbsent(favorite.getUserId(), id -> new LongFloatHashMap()),
+                        favorite.getMovieId(), FAVORITE_WEIGHT);
+            }
+            if (!favorites.isEmpty()) {
+                lastId = favorites.get(favorites.size() - 1).getId();
+            }
+        } while (favorites.size() == SIGNAL_BATCH_SIZE);
+
+        return userVectors;
+    }
+
+    private LongFloatHashMap loadUserVector(Long userId) {
+        LongFloatHashMap vector = new LongFloatHashMap();
+        for (MovieHistorySignal history : movieHistoryRepository.findSignalsByUserId(userId)) {
+            addSignal(vector, history.getMovieId(), historyWeight(history.getRating()));
+        }
+        for (FavoriteSignal favorite : favoriteRepository.findSignalsByUserId(userId)) {
+            addSignal(vector, favorite.getMovieId(), FAVORITE_WEIGHT);
+        }
+        return vector;
+    }
+
+    /**
+     * 사용자당 영화 수 상한 (헤비 유저 한 명이 유사도 계산을 지배하지 않도록)
+     */
+    private void addSignal(LongFloatHashMap vector, Long movieId, float weight) {
+        if (vector.containsKey(movieId) || vector.size() < maxMoviesPerUser) {
+            vector.addTo(movieId, weight);
+        }
+    }
+
+    /**
+     * 평점 없음 → 1.0, 평점 1~5 → 1/3 ~ 5/3 (3점이 기준)
+     */
+    static float historyWeight(Integer rating) {
+        if (rating == null) {
+            return UNRATED_WEIGHT;
+        }
+        return Math.max(1, Math.min(5, rating)) / 3.0f;
+    }
+}
@@ -0,0 +1,115 @@
+package com.moviediary.backend.recommendation.application;
+
+import com.moviediary.backend.favorite.domain.FavoriteChangedEvent;
+import com.moviediary.backend.moviehistory.domain.MovieHistoryChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ⏱️ 추천 증분 갱신 대기열 (사용자 단위 병합 + 디바운스)
+ * - 같은 사용자의 연속 변경은 한 항목으로 합치고, 마지막 변경 후 debounce 만큼 조용해지면 갱신
+ * - 변경이 계속 들어와도 첫 변경 후 max-delay 가 지나면 갱신 (무한 지연 방지)
+ * - 대기열 크기와 갱신 소요 시간은 Micrometer 지표로 노출
+ */
+@Slf4j
+@Component
+public class RecommendationRefreshQueue {
+    private final RecommendationEngine recommendationEngine;
+    private final ConcurrentHashMap<Long, PendingRefresh> pending = new ConcurrentHashMap<>();
+    private final long debounceMillis;
+    private final long maxDelayMillis;
+    private final int batchSize;
+
+    private final Timer refreshLatency;
+    private final Counter refreshFailures;
+
+    public RecommendationRefreshQueue(RecommendationEngine recommendationEngine,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${recommendation.refresh.debounce-ms:5000}") long debounceMillis,
+                                      @Value("${recommendation.refresh.max-delay-ms:30000}") long maxDelayMillis,
+                                      @Value("${recommendation.refresh.batch-size:200}") int batchSize) {
+        this.recommendationEngine = recommendationEngine;
+        this.debounceMillis = debounceMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.batchSize = batchSize;
+        Gauge.builder("recommendation.refresh.queue.size", pending, ConcurrentHashMap::size)
+                .description("추천 갱신을 기다리는 사용자 수")
+                .register(meterRegistry);
+        this.refreshLatency = Timer.builder("recommendation.refresh.latency")
+                .description("사용자 배치 추천 증분 갱신 소요 시간")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("recommendation.refresh.failures")
+                .description("다음 주기로 미뤄진 추천 갱신 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieHistoryChanged(MovieHistoryChangedEvent event) {
+        requestRefresh(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        requestRefresh(event.userId());
+    }
+
+    /**
+     * 📨 사용자 추천 갱신 요청 (이미 대기 중이면 기한만 뒤로 미룸)
+     */
+    public void requestRefresh(Long userId) {
+        long now = System.currentTimeMillis();
+        pending.merge(userId, new PendingRefresh(now, now + debounceMillis),
+                (previous, next) -> new PendingRefresh(previous.firstRequestedAt(),
+                        Math.min(next.dueAt(), previous.firstRequestedAt() + maxDelayMillis)));
+    }
+
+    /**
+     * 🔁 기한이 된 사용자만 꺼내 한 번에 갱신 (실패 시 다시 대기열로)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.refresh.interval-ms:1000}")
+    public void drain() {
+        List<Long> userIds = takeDue(System.currentTimeMillis());
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            recommendationEngine.refreshUsers(userIds);
+        } catch (Exception e) {
+            log.error("❌ 추천 증분 갱신 실패 ({}명), 다음 주기에 재시도: {}", userIds.size(), e.getMessage());
+            refreshFailures.increment();
+            userIds.forEach(this::requestRefresh);
+        } finally {
+            sample.stop(refreshLatency);
+        }
+    }
+
+    private List<Long> takeDue(long now) {
+        List<Long> due = new ArrayList<>();
+        for (var entry : pending.entrySet()) {
+            if (due.size() >= batchSize) {
+                break;
+            }
+            // 꺼내는 사이 새 변경이 들어와 기한이 바뀌었으면 제거되지 않음 → 다음 주기에 처리
+            if (entry.getValue().dueAt() <= now && pending.remove(entry.getKey(), entry.getValue())) {
+                due.add(entry.getKey());
+            }
+        }
+        return due;
+    }
+
+    private record PendingRefresh(long firstRequestedAt, long dueAt) {
+    }
+}
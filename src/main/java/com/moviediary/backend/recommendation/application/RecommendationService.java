@@ -0,0 +1,47 @@
+package com.moviediary.backend.recommendation.application;
+
+import com.moviediary.backend.movie.application.MovieService;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import com.moviediary.backend.recommendation.dao.RecommendationCacheRepository;
+import com.moviediary.backend.recommendation.domain.RecommendationCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+    private final RecommendationCacheRepository recommendationCacheRepository;
+    private final RecommendationRefreshQueue recommendationRefreshQueue;
+    private final MovieService movieService;
+
+    @Value("${recommendation.max-age-hours:26}")
+    private long maxAgeHours;
+
+    /**
+     * 🎯 사용자 맞춤 추천 영화 조회
+     * - 미리 계산된 추천 결과(Redis 단일 조회) → 영화 요약 정보는 메모리 검색 인덱스에서
+     * - 추천 결과가 없으면 (신규 사용자 등) 인기 영화로 대체
+     * - cachedAt 이 오래된 결과는 그대로 반환하고 백그라운드 갱신 요청
+     */
+    public List<MovieProjection> getRecommendations(Long userId) {
+        Optional<RecommendationCache> cached = recommendationCacheRepository.findById(userId);
+        cached.filter(this::isStale).ifPresent(stale -> recommendationRefreshQueue.requestRefresh(userId));
+
+        List<Long> movieIds = cached.map(RecommendationCache::getRecommendedMovieIds).orElse(List.of());
+        if (movieIds == null || movieIds.isEmpty()) {
+            return movieService.getPopularMovieView();
+        }
+        return movieService.getMovieSummaries(movieIds);
+    }
+
+    private boolean isStale(RecommendationCache cache) {
+        return cache.getCachedAt() == null || cache.getCachedAt().isBefore(LocalDateTime.now().minusHours(maxAgeHours));
+    }
+}
@@ -0,0 +1,220 @@
+package com.moviediary.backend.recommendation.application;
+
+import com.moviediary.backend.global.common.HnswIndex;
+import com.moviediary.backend.global.common.LongFloatHashMap;
+import com.moviediary.backend.global.common.TopK;
+import com.moviediary.backend.movie.application.MovieService;
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 🎞️ 비슷한 영화 검색 (HNSW 근사 최근접 이웃 + 함께 본 영화 재정렬)
+ * - 장르/평점/인기도 특징 벡터로 후보를 찾고, 추천 엔진의 함께 본 영화 유사도를 섞어 최종 순위 결정
+ * - 인덱스는 메모리 맵 파일로 저장해 재시작 시 파일에서 복원, 이후 새 영화만 주기적으로 추가
+ * - HNSW 는 기존 벡터를 바꿀 수 없으므로 평점/인기도/장르 변경은 주기적인 전체 재생성(기본 매일 04:30)으로 반영
+ */
+@Slf4j
+@Service
+public class SimilarMovieService {
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int HNSW_M = 16;
+
+    private final MovieRepository movieRepository;
+    private final MovieService movieService;
+    private final RecommendationEngine recommendationEngine;
+    private final Path indexPath;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int candidateMultiplier;
+    private final float coWatchWeight;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private HnswIndex index;
+    private long lastIndexedId;
+    private volatile boolean dirty;
+
+    public SimilarMovieService(MovieRepository movieRepository,
+                               MovieService movieService,
+                               RecommendationEngine recommendationEngine,
+                               @Value("${recommendation.similar.index-path:data/similar-movies.hnsw}") String indexPath,
+                               @Value("${recommendation.similar.ef-construction:100}") int efConstruction,
+                               @Value("${recommendation.similar.ef-search:64}") int efSearch,
+                               @Value("${recommendation.similar.candidate-multiplier:3}") int candidateMultiplier,
+                               @Value("${recommendation.similar.co-watch-weight:0.5}") float coWatchWeight) {
+        this.movieRepository = movieRepository;
+        this.movieService = movieService;
+        this.recommendationEngine = recommendationEngine;
+        this.indexPath = Path.of(indexPath);
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.candidateMultiplier = candidateMultiplier;
+        this.coWatchWeight = coWatchWeight;
+        this.index = new HnswIndex(MovieFeatures.DIMENSION, HNSW_M, efConstruction);
+    }
+
+    /**
+     * 🚀 저장된 인덱스 파일 복원 (없거나 깨졌으면 빈 인덱스에서 시작) 후 새 영화 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        if (Files.exists(indexPath)) {
+            try {
+                HnswIndex loaded = HnswIndex.load(indexPath, MovieFeatures.DIMENSION);
+                lock.writeLock().lock();
+                try {
+                    index = loaded;
+                    lastIndexedId = loaded.maxId();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("✅ 비슷한 영화 인덱스 파일 복원 완료 ({}개 영화)", loaded.size());
+            } catch (IOException | RuntimeException e) {
+                log.warn("⚠️ 비슷한 영화 인덱스 파일 복원 실패, 새로 생성: {}", e.getMessage());
+            }
+        }
+        syncNewMovies();
+    }
+
+    /**
+     * ⏳ 마지막으로 색인한 ID 이후의 영화만 추가하고 변경이 있으면 파일 저장
+     */
+    @Scheduled(fixedDelayString = "${recommendation.similar.sync-interval-ms:600000}",
+            initialDelayString = "${recommendation.similar.sync-interval-ms:600000}")
+    public synchronized void syncNewMovies() {
+        int added = 0;
+        List<Movie> batch;
+        do {
+            batch = movieRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastIndexedId);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (Movie movie : batch) {
+                    index.add(movie.getId(), MovieFeatures.of(movie));
+                }
+                lastIndexedId = batch.get(batch.size() - 1).getId();
+                dirty = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            added += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        if (added > 0) {
+            log.info("✅ 비슷한 영화 인덱스에 {}개 영화 추가", added);
+        }
+        saveIfDirty();
+    }
+
+    /**
+     * 🔄 전체 영화로 새 인덱스를 만든 뒤 교체 (생성 중에는 기존 인덱스로 계속 응답)
+     * - 생성 중 추가된 영화는 교체 직후 syncNewMovies 로 따라잡음
+     */
+    @Scheduled(cron = "${recommendation.similar.rebuild-cron:0 30 4 * * *}")
+    public synchronized void rebuildIndex() {
+        long startedAt = System.currentTimeMillis();
+        HnswIndex rebuilt = new HnswIndex(MovieFeatures.DIMENSION, HNSW_M, efConstruction);
+        long lastId = 0;
+        List<Movie> batch;
+        do {
+            batch = movieRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+            for (Movie movie : batch) {
+                rebuilt.add(movie.getId(), MovieFeatures.of(movie));
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+            lastIndexedId = lastId;
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("✅ 비슷한 영화 인덱스 재생성 완료 ({}개 영화, {}ms)",
+                rebuilt.size(), System.currentTimeMillis() - startedAt);
+        syncNewMovies();
+    }
+
+    /**
+     * 🔍 비슷한 영화 조회 (자기 자신 제외, 최대 size 개)
+     * - 점수 = (1 - w) × 특징 유사도 + w × 함께 본 영화 유사도
+     */
+    public List<MovieProjection> getSimilarMovies(Long movieId, int size) {
+        LongFloatHashMap coWatch = recommendationEngine.coWatchNeighbors(movieId);
+        LongFloatHashMap scores = new LongFloatHashMap();
+
+        lock.readLock().lock();
+        try {
+            float[] query = index.vector(movieId);
+            if (query == null) {
+                return List.of();
+            }
+            HnswIndex.Result candidates = index.search(query, size * candidateMultiplier + 1, efSearch);
+            for (int i = 0; i < candidates.ids().length; i++) {
+                long candidate = candidates.ids()[i];
+                scores.put(candidate, (1 - coWatchWeight) * candidates.similarities()[i]
+                        + coWatchWeight * coWatch.get(candidate, 0f));
+            }
+            // 특징은 달라도 함께 많이 본 영화는 후보에 추가
+            coWatch.forEach((candidate, similarity) -> {
+                if (!scores.containsKey(candidate)) {
+                    float[] vector = index.vector(candidate);
+                    float featureSimilarity = vector == null ? 0f : HnswIndex.cosine(query, vector);
+                    scores.put(candidate, (1 - coWatchWeight) * featureSimilarity + coWatchWeight * similarity);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        scores.remove(movieId);
+
+        TopK top = new TopK(size);
+        scores.forEach(top::offer);
+        List<Long> similarIds = new ArrayList<>(size);
+        for (long id : top.drainIds()) {
+            similarIds.add(id);
+        }
+        return movieService.getMovieSummaries(similarIds);
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveIfDirty();
+    }
+
+    private void saveIfDirty() {
+        lock.readLock().lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            index.save(indexPath);
+            dirty = false; // 쓰기는 writeLock 안에서만 일어나므로 저장 중 변경 없음
+            log.info("💾 비슷한 영화 인덱스 파일 저장 완료 ({}개 영화)", index.size());
+        } catch (IOException e) {
+            log.error("❌ 비슷한 영화 인덱스 파일 저장 실패: {}", e.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
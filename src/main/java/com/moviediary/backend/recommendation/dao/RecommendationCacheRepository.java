@@ -0,0 +1,7 @@
+package com.moviediary.backend.recommendation.dao;
+
+import com.moviediary.backend.recommendation.domain.RecommendationCache;
+import org.springframework.data.repository.CrudRepository;
+
+public interface RecommendationCacheRepository extends CrudRepository<RecommendationCache, Long> {
+}
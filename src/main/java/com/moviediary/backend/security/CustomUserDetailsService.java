@@ -1,6 +1,5 @@
 package com.moviediary.backend.security;
 
-import com.moviediary.backend.user.domain.User;
 import com.moviediary.backend.user.dao.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,13 +15,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        // User 엔티티를 그대로 반환 (토큰 발급 시 사용자 ID·권한을 클레임에 담기 위함)
+        return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
-
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getUsername())
-                .password(user.getPassword())
-                .authorities("ROLE_USER") // 기본적으로 ROLE_USER 부여
-                .build();
     }
 }
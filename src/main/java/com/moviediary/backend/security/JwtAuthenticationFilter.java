@@ -1,59 +1,49 @@
 package com.moviediary.backend.security;
 
-import com.moviediary.backend.user.dao.UserRepository;
-import com.moviediary.backend.user.domain.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
+/**
+ * 🔐 JWT 인증 필터 (서명 검증 + 클레임만으로 인증, 요청당 DB 조회 없음)
+ * - 폐기 목록은 메모리에서 확인
+ * - uid/roles 클레임이 없는 이전 형식 토큰만 사용자 캐시(UserPrincipalCache)를 거침
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
-    private final UserRepository userRepository;
+    private final TokenDenyList tokenDenyList;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws IOException, ServletException {
-        String token = resolveToken(request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            // 🔥 User 엔티티 조회
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());  // 🔥 수정
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            log.info("✅ JWT 인증 성공 - 사용자: {}", username);
+        String token = JwtTokenProvider.resolveToken(request.getHeader("Authorization"));
+        if (token != null) {
+            jwtTokenProvider.authenticate(token)
+                    .filter(claims -> !tokenDenyList.isRevoked(JwtTokenProvider.tokenId(claims, token)))
+                    .flatMap(this::resolvePrincipal)
+                    .ifPresent(principal -> {
+                        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(principal, token));
+                        log.debug("✅ JWT 인증 성공 - 사용자: {}", principal.getUsername());
+                    });
         }
         chain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+    private Optional<UserPrincipal> resolvePrincipal(Claims claims) {
+        Optional<UserPrincipal> principal = JwtTokenProvider.toPrincipal(claims);
+        return principal.isPresent() ? principal : userPrincipalCache.get(claims.getSubject());
     }
 }
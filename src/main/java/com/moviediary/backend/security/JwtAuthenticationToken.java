@@ -1,18 +1,14 @@
 package com.moviediary.backend.security;
 
 import org.springframework.security.authentication.AbstractAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
-
-import java.util.Collection;
 
 public class JwtAuthenticationToken extends AbstractAuthenticationToken {
 
-    private final UserDetails principal;
+    private final UserPrincipal principal;
     private final String token;
 
-    public JwtAuthenticationToken(UserDetails principal, String token, Collection<? extends GrantedAuthority> authorities) {
-        super(authorities);
+    public JwtAuthenticationToken(UserPrincipal principal, String token) {
+        super(principal.getAuthorities());
         this.principal = principal;
         this.token = token;
         setAuthenticated(true); // 인증 완료 상태로 설정
@@ -24,7 +20,7 @@ public class JwtAuthenticationToken extends AbstractAuthenticationToken {
     }
 
     @Override
-    public Object getPrincipal() {
+    public UserPrincipal getPrincipal() {
         return principal;
     }
 }
@@ -1,57 +1,147 @@
 package com.moviediary.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.moviediary.backend.user.domain.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+    private static final String BEARER_PREFIX = "Bearer ";
 
     private final Key key;
     private final long tokenExpiration;
+    private final JwtParser parser; // 불변 객체라 스레드 간 공유 가능
+    private final Cache<ByteBuffer, Claims> verifiedTokens; // 토큰 SHA-256 → 검증된 클레임 (토큰 만료 시 제거)
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
-                            @Value("${jwt.token.expiration}") long tokenExpiration) {
+                            @Value("${jwt.token.expiration}") long tokenExpiration,
+                            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.tokenExpiration = tokenExpiration;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
-    // ✅ JWT 토큰 생성
-    public String generateToken(UserDetails userDetails) {
+    // ✅ JWT 토큰 생성 (사용자 ID·권한을 클레임에 담아 요청마다 DB 조회 없이 인증)
+    public String generateToken(User user) {
+        List<String> roles = user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLES_CLAIM, roles)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + tokenExpiration))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // ✅ 토큰에서 사용자 이름 추출
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
+    // ✅ 토큰 인증: 서명·만료를 한 번만 검증하고 클레임 반환 (실패 시 empty)
+    // - 최근 검증한 토큰은 다이제스트로 기억해 만료 전까지 서명 검증 생략
+    public Optional<Claims> authenticate(String token) {
+        ByteBuffer digest = ByteBuffer.wrap(sha256Bytes(token));
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-    // ✅ 토큰 검증
-    public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+            return Optional.of(claims);
         } catch (Exception e) {
             log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 클레임만으로 인증 사용자 구성 (uid/roles 가 없는 이전 형식 토큰이면 empty)
+     */
+    public static Optional<UserPrincipal> toPrincipal(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(userId instanceof Number id) || !(roles instanceof List<?> roleList)) {
+            return Optional.empty();
+        }
+        return Optional.of(new UserPrincipal(id.longValue(), claims.getSubject(),
+                roleList.stream().map(String::valueOf).toList()));
+    }
+
+    /**
+     * 폐기 목록용 토큰 ID (jti, 없으면 토큰 SHA-256)
+     */
+    public static String tokenId(Claims claims, String token) {
+        return claims.getId() != null ? claims.getId() : sha256(token);
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출
+     */
+    public static String resolveToken(String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return authorizationHeader.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+
+    private static String sha256(String token) {
+        return HexFormat.of().formatHex(sha256Bytes(token));
+    }
+
+    private static byte[] sha256Bytes(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * ⏳ 검증 캐시 항목은 토큰의 exp 시각에 만료
+     */
+    private static class TokenExpiry implements Expiry<ByteBuffer, Claims> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,92 @@
+package com.moviediary.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🚫 폐기된 JWT 목록 (로그아웃 등)
+ * - 요청마다 확인하는 목록은 메모리에 두고, Redis 키(토큰 만료 시각까지 TTL)와 Pub/Sub 으로 노드 간 공유
+ * - 시작 시 Redis 에 남아 있는 폐기 토큰을 불러오고, 만료된 항목은 주기적으로 정리
+ */
+@Slf4j
+@Component
+public class TokenDenyList implements MessageListener {
+    public static final String REVOKED_CHANNEL = "jwt:revoked";
+    private static final String DENY_KEY_PREFIX = "jwt:deny:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>(); // 토큰 ID → 만료 시각(ms)
+
+    public TokenDenyList(StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+    }
+
+    /**
+     * ❌ 토큰 폐기 (토큰이 만료되면 목록에서도 사라짐)
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        revoked.put(tokenId, expiresAtMillis);
+        try {
+            stringRedisTemplate.opsForValue().set(DENY_KEY_PREFIX + tokenId, String.valueOf(expiresAtMillis),
+                    Duration.ofMillis(ttlMillis));
+            stringRedisTemplate.convertAndSend(REVOKED_CHANNEL, tokenId + ":" + expiresAtMillis);
+        } catch (Exception e) {
+            log.error("❌ 토큰 폐기 정보를 Redis 에 전파하지 못함 (이 노드에만 적용): {}", e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevoked() {
+        ScanOptions options = ScanOptions.scanOptions().match(DENY_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> {
+                String expiresAt = stringRedisTemplate.opsForValue().get(key);
+                if (expiresAt != null) {
+                    revoked.put(key.substring(DENY_KEY_PREFIX.length()), Long.parseLong(expiresAt));
+                }
+            });
+            log.info("✅ 폐기된 토큰 {}개 적재", revoked.size());
+        } catch (Exception e) {
+            log.error("❌ 폐기된 토큰 목록 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator > 0) {
+            revoked.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
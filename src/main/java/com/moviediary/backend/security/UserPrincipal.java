@@ -0,0 +1,63 @@
+package com.moviediary.backend.security;
+
+import com.moviediary.backend.user.domain.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 🔐 JWT 인증 사용자 (토큰 클레임만으로 구성, DB 조회 없음)
+ * - userId 를 들고 있어 컨트롤러/서비스에서 사용자 재조회가 필요 없음
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+    private final Long userId;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long userId, String username, Collection<String> roles) {
+        this.userId = userId;
+        this.username = username;
+        this.authorities = roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getUsername(),
+                user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    public List<String> getRoles() {
+        return authorities.stream().map(GrantedAuthority::getAuthority).toList();
+    }
+
+    @Override
+    public String getPassword() {
+        return null; // 토큰 인증이므로 비밀번호를 보관하지 않음
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.moviediary.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviediary.backend.user.dao.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 🧊 사용자명 → UserPrincipal 캐시 (크기/시간 제한)
+ * - uid/roles 클레임이 없는 이전 형식 토큰처럼 DB 정보가 필요한 경우에만 사용
+ * - 존재하지 않는 사용자는 캐싱하지 않음
+ */
+@Component
+public class UserPrincipalCache {
+    private final UserRepository userRepository;
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<UserPrincipal> get(String username) {
+        return Optional.ofNullable(cache.get(username, this::load));
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    private UserPrincipal load(String username) {
+        return userRepository.findByUsername(username).map(UserPrincipal::from).orElse(null);
+    }
+}
@@ -39,7 +39,8 @@ public class User implements UserDetails {  // 🔥 UserDetails 구현
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {  // 🔥 추가
-        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        Role grantedRole = role != null ? role : Role.USER; // 역할이 비어 있는 기존 가입자는 USER
+        return List.of(new SimpleGrantedAuthority("ROLE_" + grantedRole.name()));
     }
 
     @Override
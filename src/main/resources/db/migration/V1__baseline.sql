@@ -0,0 +1,54 @@
+-- 기존 ddl-auto=update 로 만들어진 스키마 (이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뜀)
+
+CREATE TABLE `user` (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     ENUM ('ADMIN', 'USER'),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE movie (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    tmdb_id      VARCHAR(255) NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    release_date DATE,
+    rating       DOUBLE,
+    genre        VARCHAR(255),
+    overview     TEXT,
+    poster_url   VARCHAR(255),
+    backdrop_url VARCHAR(255),
+    popularity   DOUBLE,
+    vote_count   INT,
+    trailer_url  VARCHAR(255),
+    created_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_movie_tmdb_id UNIQUE (tmdb_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE movie_history (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT      NOT NULL,
+    movie_id        BIGINT      NOT NULL,
+    watched_at      DATETIME(6) NOT NULL,
+    last_watched_at DATETIME(6),
+    review          TEXT,
+    rating          INT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_movie_history_user_movie UNIQUE (user_id, movie_id),
+    CONSTRAINT fk_movie_history_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_movie_history_movie FOREIGN KEY (movie_id) REFERENCES movie (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE favorite (
+    id       BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id  BIGINT      NOT NULL,
+    movie_id BIGINT      NOT NULL,
+    added_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_favorite_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_favorite_movie FOREIGN KEY (movie_id) REFERENCES movie (id)
+) ENGINE = InnoDB;
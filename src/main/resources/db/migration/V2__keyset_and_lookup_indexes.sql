@@ -0,0 +1,8 @@
+-- 감상 기록 No-Offset 페이지 (WHERE user_id = ? AND id > ? ORDER BY id LIMIT 10) 를 인덱스 범위 스캔으로
+CREATE INDEX idx_movie_history_user_id_id ON movie_history (user_id, id);
+
+-- 인기 영화 조회 (ORDER BY popularity DESC LIMIT 10)
+CREATE INDEX idx_movie_popularity ON movie (popularity);
+
+-- 사용자별 즐겨찾기 조회 / 존재 확인
+CREATE INDEX idx_favorite_user_id_movie_id ON favorite (user_id, movie_id);
@@ -0,0 +1,27 @@
+-- 장르 비트마스크 (비트 위치는 movie.domain.Genre 와 동일)
+ALTER TABLE movie ADD COLUMN genre_mask BIGINT NOT NULL DEFAULT 0 AFTER genre;
+
+-- 기존 genre 문자열에서 장르 ID 를 찾아 비트 설정
+-- 목록 수집분 "[28, 12]" 과 예전 상세 조회분 "[{id=28, name=Action}]" 모두 숫자 경계로 매칭
+UPDATE movie
+SET genre_mask =
+    IF(genre REGEXP '(^|[^0-9])28([^0-9]|$)', 1, 0) |
+    IF(genre REGEXP '(^|[^0-9])12([^0-9]|$)', 2, 0) |
+    IF(genre REGEXP '(^|[^0-9])16([^0-9]|$)', 4, 0) |
+    IF(genre REGEXP '(^|[^0-9])35([^0-9]|$)', 8, 0) |
+    IF(genre REGEXP '(^|[^0-9])80([^0-9]|$)', 16, 0) |
+    IF(genre REGEXP '(^|[^0-9])99([^0-9]|$)', 32, 0) |
+    IF(genre REGEXP '(^|[^0-9])18([^0-9]|$)', 64, 0) |
+    IF(genre REGEXP '(^|[^0-9])10751([^0-9]|$)', 128, 0) |
+    IF(genre REGEXP '(^|[^0-9])14([^0-9]|$)', 256, 0) |
+    IF(genre REGEXP '(^|[^0-9])36([^0-9]|$)', 512, 0) |
+    IF(genre REGEXP '(^|[^0-9])27([^0-9]|$)', 1024, 0) |
+    IF(genre REGEXP '(^|[^0-9])10402([^0-9]|$)', 2048, 0) |
+    IF(genre REGEXP '(^|[^0-9])9648([^0-9]|$)', 4096, 0) |
+    IF(genre REGEXP '(^|[^0-9])10749([^0-9]|$)', 8192, 0) |
+    IF(genre REGEXP '(^|[^0-9])878([^0-9]|$)', 16384, 0) |
+    IF(genre REGEXP '(^|[^0-9])10770([^0-9]|$)', 32768, 0) |
+    IF(genre REGEXP '(^|[^0-9])53([^0-9]|$)', 65536, 0) |
+    IF(genre REGEXP '(^|[^0-9])10752([^0-9]|$)', 131072, 0) |
+    IF(genre REGEXP '(^|[^0-9])37([^0-9]|$)', 262144, 0)
+WHERE genre IS NOT NULL;
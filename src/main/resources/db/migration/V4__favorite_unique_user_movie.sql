@@ -0,0 +1,9 @@
+-- 즐겨찾기는 (사용자, 영화) 당 한 건: 중복 행 정리 후 유니크 제약으로 교체
+-- write-behind 배치의 INSERT IGNORE 가 중복을 제약으로 걸러냄
+DELETE f1
+FROM favorite f1
+         JOIN favorite f2 ON f1.user_id = f2.user_id AND f1.movie_id = f2.movie_id AND f1.id > f2.id;
+
+ALTER TABLE favorite ADD CONSTRAINT uk_favorite_user_movie UNIQUE (user_id, movie_id);
+
+DROP INDEX idx_favorite_user_id_movie_id ON favorite;
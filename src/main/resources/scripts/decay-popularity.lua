@@ -0,0 +1,17 @@
+-- 🔥 인기 점수 감쇠 (서버 측 단일 실행)
+-- KEYS[1] : 인기 점수 ZSET
+-- ARGV[1] : 감쇠 계수 (score * factor)
+-- ARGV[2] : 최소 점수 (미만이면 제거)
+-- ARGV[3] : 최대 유지 개수 (초과분은 낮은 점수부터 제거)
+-- return  : 제거된 항목 수
+redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', ARGV[1])
+
+local removed = redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[2])
+
+local size = redis.call('ZCARD', KEYS[1])
+local maxSize = tonumber(ARGV[3])
+if size > maxSize then
+    removed = removed + redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - maxSize - 1)
+end
+
+return removed
@@ -0,0 +1,16 @@
+-- ⭐ 즐겨찾기 세트 적재 (적재 표시가 없을 때만)
+-- KEYS[1] : 사용자 즐겨찾기 세트
+-- ARGV[1] : 적재 표시 멤버
+-- ARGV[2] : TTL (초)
+-- ARGV[3..] : 영화 ID
+-- return  : 1 = 적재함, 0 = 이미 다른 요청이 적재함 (그 사이 추가/삭제를 덮어쓰지 않음)
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return 0
+end
+
+redis.call('SADD', KEYS[1], ARGV[1])
+for i = 3, #ARGV, 5000 do
+    redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+end
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+return 1
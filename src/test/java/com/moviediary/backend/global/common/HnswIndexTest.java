@@ -0,0 +1,72 @@
+package com.moviediary.backend.global.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTest {
+    private static final int DIMENSION = 8;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void findsMostOfTheExactNearestNeighbors() {
+        HnswIndex index = randomIndex(5000);
+
+        int hits = 0;
+        for (long queryId = 1; queryId <= 100; queryId++) {
+            float[] query = index.vector(queryId);
+            float threshold = exactTopKThreshold(index, query, 10);
+            for (float similarity : index.search(query, 10, 64).similarities()) {
+                if (similarity >= threshold - 1e-6f) {
+                    hits++;
+                }
+            }
+        }
+
+        assertThat(hits / 1000.0).isGreaterThan(0.95);
+    }
+
+    @Test
+    void savedIndexLoadsWithSameResults() throws Exception {
+        HnswIndex index = randomIndex(2000);
+        Path file = tempDir.resolve("index.hnsw");
+
+        index.save(file);
+        HnswIndex loaded = HnswIndex.load(file, DIMENSION);
+
+        assertThat(loaded.size()).isEqualTo(index.size());
+        assertThat(loaded.maxId()).isEqualTo(2000);
+        float[] query = index.vector(42);
+        assertThat(loaded.search(query, 10, 64).ids()).containsExactly(index.search(query, 10, 64).ids());
+    }
+
+    private static HnswIndex randomIndex(int size) {
+        SplittableRandom random = new SplittableRandom(1);
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 100);
+        for (long id = 1; id <= size; id++) {
+            float[] vector = new float[DIMENSION];
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = (float) random.nextDouble();
+            }
+            index.add(id, vector);
+        }
+        return index;
+    }
+
+    private static float exactTopKThreshold(HnswIndex index, float[] query, int k) {
+        TopK top = new TopK(k);
+        for (long id = 1; id <= index.size(); id++) {
+            top.offer(id, HnswIndex.cosine(query, index.vector(id)));
+        }
+        long[] ids = new long[k];
+        float[] similarities = new float[k];
+        top.drain(ids, similarities);
+        return similarities[k - 1];
+    }
+}
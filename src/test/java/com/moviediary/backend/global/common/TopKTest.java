@@ -0,0 +1,44 @@
+package com.moviediary.backend.global.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKTest {
+
+    @Test
+    void keepsHighestScoresInDescendingOrder() {
+        TopK top = new TopK(3);
+        top.offer(1, 0.1f);
+        top.offer(2, 0.9f);
+        top.offer(3, 0.5f);
+        top.offer(4, 0.7f);
+        top.offer(5, 0.2f);
+
+        long[] ids = new long[top.size()];
+        float[] scores = new float[top.size()];
+        top.drain(ids, scores);
+
+        assertThat(ids).containsExactly(2, 4, 3);
+        assertThat(scores).containsExactly(0.9f, 0.7f, 0.5f);
+    }
+
+    @Test
+    void tiesPreferSmallerId() {
+        TopK top = new TopK(2);
+        top.offer(30, 0.5f);
+        top.offer(10, 0.5f);
+        top.offer(20, 0.5f);
+
+        assertThat(top.drainIds()).containsExactly(10, 20);
+    }
+
+    @Test
+    void returnsFewerThanKWhenNotEnoughOffers() {
+        TopK top = new TopK(5);
+        top.offer(7, 1.0f);
+
+        assertThat(top.drainIds()).containsExactly(7);
+        assertThat(new TopK(5).drainIds()).isEmpty();
+    }
+}
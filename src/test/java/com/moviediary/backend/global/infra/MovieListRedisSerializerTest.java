@@ -0,0 +1,52 @@
+package com.moviediary.backend.global.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviediary.backend.movie.dto.MovieSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieListRedisSerializerTest {
+
+    private final MovieListRedisSerializer serializer = new MovieListRedisSerializer();
+
+    @Test
+    void roundTripsMoviesIncludingNullFields() {
+        List<MovieSummaryDto> movies = List.of(
+                new MovieSummaryDto(1L, "기생충 Parasite", "https://image.tmdb.org/t/p/w500/poster.jpg", 123.456),
+                new MovieSummaryDto(null, null, null, null),
+                new MovieSummaryDto(Long.MAX_VALUE, "", "https://cdn.example.com/poster.jpg", 0.0));
+
+        List<MovieSummaryDto> decoded = serializer.deserialize(serializer.serialize(movies));
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(movies);
+    }
+
+    @Test
+    void encodedPageIsSmallerThanJson() throws Exception {
+        List<MovieSummaryDto> page = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            page.add(new MovieSummaryDto(id, "Movie Title " + id,
+                    "https://image.tmdb.org/t/p/w500/poster" + id + ".jpg", 1000.0 - id));
+        }
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(page);
+        byte[] encoded = serializer.serialize(page);
+
+        assertThat(encoded.length).isLessThan(json.length);
+    }
+
+    @Test
+    void unknownVersionOrCorruptValueIsTreatedAsMiss() {
+        byte[] legacyJson = "[{\"id\":1,\"title\":\"Fight Club\"}]".getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = serializer.serialize(List.of(new MovieSummaryDto(1L, "Fight Club", null, 1.0)));
+
+        assertThat(serializer.deserialize(legacyJson)).isNull();
+        assertThat(serializer.deserialize(Arrays.copyOf(encoded, encoded.length - 3))).isNull();
+    }
+}
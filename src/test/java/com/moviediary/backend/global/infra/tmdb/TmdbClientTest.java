@@ -0,0 +1,127 @@
+package com.moviediary.backend.global.infra.tmdb;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbMovie;
+import com.moviediary.backend.global.infra.tmdb.dto.TmdbPage;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TmdbClientTest {
+
+    private HttpServer server;
+    private TmdbClient tmdbClient;
+    private final AtomicReference<String> lastQuery = new AtomicReference<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger discoverHits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/3/discover/movie", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getRawQuery());
+            discoverHits.incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            respond(exchange, 200, "{\"page\":1,\"results\":[{\"adult\":false,\"genre_ids\":[18],\"id\":550,"
+                    + "\"original_title\":\"Fight Club\",\"title\":\"Fight Club\"}],\"total_pages\":500}");
+        });
+        server.createContext("/3/search/movie", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getRawQuery());
+            respond(exchange, 200, "{\"results\":[]}");
+        });
+        server.createContext("/3/movie/", exchange -> respond(exchange, 404, "{\"status_code\":34}"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/3";
+        tmdbClient = new TmdbClient(new ObjectMapper(), new SimpleMeterRegistry(), baseUrl, "test-key", 1000, 1000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tmdbClient.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void discoverMoviesParsesResultsAndSendsApiKey() {
+        TmdbPage<TmdbMovie> body = tmdbClient.discoverMovies(3).join();
+
+        assertThat(body.results()).hasSize(1);
+        assertThat(body.results().get(0).id()).isEqualTo(550);
+        assertThat(body.results().get(0).title()).isEqualTo("Fight Club");
+        assertThat(body.results().get(0).genreIds()).containsExactly(18);
+        assertThat(lastQuery.get()).contains("api_key=test-key").contains("page=3");
+    }
+
+    @Test
+    void searchEncodesQueryAndFallsBackToMovieType() {
+        tmdbClient.search("unknown", "the matrix & co", 1).join();
+
+        assertThat(lastQuery.get()).contains("query=the+matrix+%26+co");
+    }
+
+    @Test
+    void nonOkResponseFailsWithStatusCode() {
+        assertThatThrownBy(() -> tmdbClient.getMovie(999).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TmdbApiException.class)
+                .cause()
+                .hasFieldOrPropertyWithValue("statusCode", 404);
+    }
+
+    @Test
+    void concurrentRequestsAreLimited() {
+        List<CompletableFuture<TmdbPage<TmdbMovie>>> futures = IntStream.range(0, 8)
+                .mapToObj(page -> tmdbClient.discoverMovies(page))
+                .toList();
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void identicalConcurrentRequestsShareOneCall() {
+        List<CompletableFuture<TmdbPage<TmdbMovie>>> futures = IntStream.range(0, 5)
+                .mapToObj(i -> tmdbClient.discoverMovies(1))
+                .toList();
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(discoverHits.get()).isEqualTo(1);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.moviediary.backend.movie.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MoviePopularityAccumulatorTest {
+    private final Map<Long, Double> scores = new HashMap<>();
+    private SimpleMeterRegistry meterRegistry;
+    private MoviePopularityAccumulator accumulator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ZSetOperations<String, Object> zSet = mock(ZSetOperations.class);
+        when(zSet.incrementScore(eq(MovieService.POPULAR_MOVIE_KEY), any(), anyDouble())).thenAnswer(invocation -> {
+            scores.merge((Long) invocation.getArgument(1), invocation.<Double>getArgument(2), Double::sum);
+            return null;
+        });
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        when(operations.opsForZSet()).thenReturn(zSet);
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+            return null;
+        });
+
+        meterRegistry = new SimpleMeterRegistry();
+        accumulator = new MoviePopularityAccumulator(redisTemplate, meterRegistry, 2);
+    }
+
+    @Test
+    void capOnlyLimitsOneFlushWindow() {
+        accumulator.increment(1L);
+        accumulator.increment(1L);
+        accumulator.increment(2L);
+        accumulator.increment(3L); // 이번 주기 한도(2개) 초과
+        accumulator.flush();
+
+        accumulator.increment(3L);
+        accumulator.increment(4L);
+        accumulator.flush();
+
+        accumulator.increment(5L);
+        accumulator.increment(6L);
+        accumulator.flush();
+
+        assertThat(scores).containsExactlyInAnyOrderEntriesOf(Map.of(
+                1L, 2.0, 2L, 1.0, 3L, 1.0, 4L, 1.0, 5L, 1.0, 6L, 1.0));
+        assertThat(meterRegistry.get("movie.popularity.increments.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void flushWithoutViewsSendsNothing() {
+        accumulator.increment(1L);
+        accumulator.flush();
+        accumulator.flush();
+        accumulator.flush();
+
+        assertThat(scores).containsExactly(Map.entry(1L, 1.0));
+    }
+}
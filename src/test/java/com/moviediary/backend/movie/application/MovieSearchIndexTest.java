@@ -0,0 +1,85 @@
+package com.moviediary.backend.movie.application;
+
+import com.moviediary.backend.movie.dao.MovieRepository;
+import com.moviediary.backend.movie.domain.Genre;
+import com.moviediary.backend.movie.domain.Movie;
+import com.moviediary.backend.movie.dto.MovieProjection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MovieSearchIndexTest {
+
+    @Test
+    void cursorWalksEveryMatchOnceThenReturnsEmpty() {
+        MovieSearchIndex index = indexWith(25);
+
+        Set<Long> seen = new HashSet<>();
+        List<MovieProjection> page = index.search("star", 0L);
+        int pages = 0;
+        while (!page.isEmpty()) {
+            for (MovieProjection movie : page) {
+                assertThat(seen.add(movie.getId())).isTrue();
+            }
+            page = index.search("star", page.get(page.size() - 1).getId());
+            pages++;
+        }
+
+        assertThat(seen).hasSize(25);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void pagesFollowScoreThenIdOrder() {
+        MovieSearchIndex index = indexWith(25);
+
+        List<MovieProjection> first = index.search("star", 0L);
+        List<MovieProjection> second = index.search("star", first.get(first.size() - 1).getId());
+
+        // 인기도가 같은 영화(5개씩)는 id 오름차순
+        assertThat(first).extracting(MovieProjection::getId)
+                .containsExactly(21L, 22L, 23L, 24L, 25L, 16L, 17L, 18L, 19L, 20L);
+        assertThat(second).extracting(MovieProjection::getId)
+                .containsExactly(11L, 12L, 13L, 14L, 15L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void unknownCursorReturnsEmptyPage() {
+        MovieSearchIndex index = indexWith(25);
+
+        assertThat(index.search("star", 999L)).isEmpty();
+        assertThat(index.search("nothing", 0L)).isEmpty();
+    }
+
+    @Test
+    void genresAreSearchableByNameNotTmdbId() {
+        MovieSearchIndex index = indexWith(3);
+
+        assertThat(index.search("science fiction", 0L)).hasSize(3);
+        assertThat(index.search("SF", 0L)).hasSize(3);
+        assertThat(index.search("878", 0L)).isEmpty();
+    }
+
+    private static MovieSearchIndex indexWith(int count) {
+        MovieSearchIndex index = new MovieSearchIndex(mock(MovieRepository.class), 0.2);
+        List<Movie> movies = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Movie movie = new Movie();
+            movie.setId(id);
+            movie.setTmdbId("tmdb-" + id);
+            movie.setTitle("Star Voyage " + id);
+            movie.setGenre("[878]");
+            movie.setGenreMask(Genre.SCIENCE_FICTION.mask());
+            movie.setPopularity((double) ((id - 1) / 5));
+            movies.add(movie);
+        }
+        index.index(movies);
+        return index;
+    }
+}
@@ -0,0 +1,158 @@
+package com.moviediary.backend.moviehistory.dao;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 적용한 MySQL 에서 주요 조회의 실행 계획이 인덱스를 타는지 확인 (Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MovieHistoryQueryPlanTest {
+
+    private static final int MOVIES = 2_000;
+    private static final int HISTORY_PER_USER = 1_500;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .load()
+                .migrate();
+
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement user = connection.prepareStatement(
+                    "INSERT INTO `user` (username, email, password, role) VALUES (?, ?, 'x', 'USER')")) {
+                for (int i = 1; i <= 3; i++) {
+                    user.setString(1, "user" + i);
+                    user.setString(2, "user" + i + "@example.com");
+                    user.addBatch();
+                }
+                user.executeBatch();
+            }
+            try (PreparedStatement movie = connection.prepareStatement(
+                    "INSERT INTO movie (tmdb_id, title, poster_url, popularity, created_at) VALUES (?, ?, ?, ?, NOW(6))")) {
+                for (int i = 1; i <= MOVIES; i++) {
+                    movie.setString(1, String.valueOf(i));
+                    movie.setString(2, "Movie " + i);
+                    movie.setString(3, "/poster" + i + ".jpg");
+                    movie.setDouble(4, i % 997);
+                    movie.addBatch();
+                }
+                movie.executeBatch();
+            }
+            try (PreparedStatement history = connection.prepareStatement(
+                    "INSERT INTO movie_history (user_id, movie_id, watched_at, review, rating) VALUES (?, ?, NOW(6), 'review', 5)")) {
+                for (int i = 1; i <= HISTORY_PER_USER; i++) {
+                    for (long userId = 1; userId <= 3; userId++) {
+                        history.setLong(1, userId);
+                        history.setLong(2, (i * 7L + userId) % MOVIES + 1);
+                        history.addBatch();
+                    }
+                }
+                history.executeBatch();
+            }
+            try (PreparedStatement favorite = connection.prepareStatement(
+                    "INSERT INTO favorite (user_id, movie_id, added_at) VALUES (?, ?, NOW(6))")) {
+                for (int i = 1; i <= 300; i++) {
+                    favorite.setLong(1, i % 3 + 1);
+                    favorite.setLong(2, i);
+                    favorite.addBatch();
+                }
+                favorite.executeBatch();
+            }
+            connection.commit();
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE `user`, movie, movie_history, favorite");
+            }
+        }
+    }
+
+    @Test
+    void historyPageUsesUserIdIdIndexWithoutFilesort() throws SQLException {
+        // MovieHistoryRepository.findMovieHistoryByUserId 와 같은 모양
+        List<Map<String, String>> plan = explain(
+                "SELECT m.id, m.title, m.poster_url, m.popularity, mh.review, mh.rating " +
+                        "FROM movie_history mh JOIN movie m ON m.id = mh.movie_id " +
+                        "WHERE mh.user_id = 2 AND mh.id > 1000 ORDER BY mh.id ASC LIMIT 10");
+
+        Map<String, String> history = row(plan, "mh");
+        assertThat(history.get("key")).isEqualTo("idx_movie_history_user_id_id");
+        assertThat(history.get("type")).isEqualTo("range");
+        assertThat(history.get("Extra")).doesNotContain("filesort").doesNotContain("temporary");
+
+        Map<String, String> movie = row(plan, "m");
+        assertThat(movie.get("type")).isEqualTo("eq_ref");
+        assertThat(movie.get("key")).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void popularMoviesReadPopularityIndexInOrder() throws SQLException {
+        List<Map<String, String>> plan = explain(
+                "SELECT m.id, m.title, m.poster_url, m.popularity FROM movie m ORDER BY m.popularity DESC LIMIT 10");
+
+        Map<String, String> movie = row(plan, "m");
+        assertThat(movie.get("key")).isEqualTo("idx_movie_popularity");
+        assertThat(movie.get("Extra")).doesNotContain("filesort");
+    }
+
+    @Test
+    void favoriteLookupIsIndexOnly() throws SQLException {
+        List<Map<String, String>> plan = explain(
+                "SELECT f.movie_id FROM favorite f WHERE f.user_id = 1");
+
+        Map<String, String> favorite = row(plan, "f");
+        assertThat(favorite.get("key")).isEqualTo("uk_favorite_user_movie");
+        assertThat(favorite.get("Extra")).contains("Using index");
+    }
+
+    private static List<Map<String, String>> explain(String sql) throws SQLException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 1; i <= columns; i++) {
+                    String value = resultSet.getString(i);
+                    row.put(resultSet.getMetaData().getColumnLabel(i), value != null ? value : "");
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static Map<String, String> row(List<Map<String, String>> plan, String table) {
+        return plan.stream()
+                .filter(row -> table.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행 계획에 " + table + " 테이블이 없음: " + plan));
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+    }
+}
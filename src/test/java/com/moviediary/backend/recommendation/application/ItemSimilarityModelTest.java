@@ -0,0 +1,108 @@
+package com.moviediary.backend.recommendation.application;
+
+import com.moviediary.backend.global.common.LongFloatHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class ItemSimilarityModelTest {
+
+    /**
+     * 사용자 1: {1, 2}, 사용자 2: {1, 3}, 사용자 3: {2, 3, 4} (모두 선호도 1)
+     * sim(1,2) = sim(1,3) = sim(2,3) = 1/2, sim(2,4) = sim(3,4) = 1/√2, sim(1,4) = 0
+     */
+    @Test
+    void recommendsByWeightedNeighborSimilarity() {
+        ItemSimilarityModel model = ItemSimilarityModel.build(Map.of(
+                1L, vector(1, 2),
+                2L, vector(1, 3),
+                3L, vector(2, 3, 4)), 10);
+
+        // 사용자 1: 영화 3 = 0.5 + 0.5, 영화 4 = 1/√2
+        assertThat(model.recommend(1, 10)).containsExactly(3, 4);
+        assertThat(model.recommend(1, 1)).containsExactly(3);
+        // 사용자 2: 영화 2 = 0.5 + 0.5, 영화 4 = 1/√2
+        assertThat(model.recommend(2, 10)).containsExactly(2, 4);
+        // 사용자 3 은 영화 1 만 남음: sim(2,1) + sim(3,1) = 1.0
+        assertThat(model.recommend(3, 10)).containsExactly(1);
+        assertThat(model.recommend(99, 10)).isEmpty();
+
+        LongFloatHashMap neighbors = model.neighborsOf(2);
+        assertThat(neighbors.get(1, 0f)).isCloseTo(0.5f, offset(1e-6f));
+        assertThat(neighbors.get(4, 0f)).isCloseTo((float) (1 / Math.sqrt(2)), offset(1e-6f));
+        assertThat(neighbors.containsKey(2)).isFalse();
+    }
+
+    @Test
+    void updateUserMatchesFullBuild() {
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Long, LongFloatHashMap> initial = new HashMap<>();
+        Map<Long, LongFloatHashMap> latest = new HashMap<>();
+        for (long userId = 1; userId <= 50; userId++) {
+            LongFloatHashMap vector = randomVector(random);
+            initial.put(userId, copy(vector));
+            latest.put(userId, vector);
+        }
+        ItemSimilarityModel model = ItemSimilarityModel.build(initial, 3);
+
+        for (int step = 0; step < 100; step++) {
+            long userId = 1 + random.nextInt(60);
+            LongFloatHashMap vector = random.nextInt(8) == 0 ? new LongFloatHashMap() : randomVector(random);
+            if (vector.isEmpty()) {
+                latest.remove(userId);
+            } else {
+                latest.put(userId, copy(vector));
+            }
+            model.updateUser(userId, vector);
+        }
+
+        Map<Long, LongFloatHashMap> latestCopy = new HashMap<>();
+        latest.forEach((userId, vector) -> latestCopy.put(userId, copy(vector)));
+        ItemSimilarityModel rebuilt = ItemSimilarityModel.build(latestCopy, 3);
+
+        for (long movieId = 1; movieId <= 40; movieId++) {
+            assertThat(sorted(model.neighborsOf(movieId))).isEqualTo(sorted(rebuilt.neighborsOf(movieId)));
+        }
+        for (long userId = 1; userId <= 60; userId++) {
+            assertThat(model.recommend(userId, 5)).containsExactly(rebuilt.recommend(userId, 5));
+        }
+    }
+
+    private static LongFloatHashMap vector(long... movieIds) {
+        LongFloatHashMap vector = new LongFloatHashMap();
+        for (long movieId : movieIds) {
+            vector.put(movieId, 1f);
+        }
+        return vector;
+    }
+
+    /**
+     * 정수 선호도만 사용 (내적/노름이 계산 순서와 무관하게 정확히 같도록)
+     */
+    private static LongFloatHashMap randomVector(SplittableRandom random) {
+        LongFloatHashMap vector = new LongFloatHashMap();
+        int size = 1 + random.nextInt(8);
+        for (int i = 0; i < size; i++) {
+            vector.put(1 + random.nextInt(40), 1 + random.nextInt(5));
+        }
+        return vector;
+    }
+
+    private static LongFloatHashMap copy(LongFloatHashMap vector) {
+        LongFloatHashMap copy = new LongFloatHashMap();
+        vector.forEach(copy::put);
+        return copy;
+    }
+
+    private static Map<Long, Float> sorted(LongFloatHashMap map) {
+        Map<Long, Float> result = new TreeMap<>();
+        map.forEach(result::put);
+        return result;
+    }
+}